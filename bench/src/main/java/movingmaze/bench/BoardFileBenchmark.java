@@ -0,0 +1,100 @@
+package movingmaze.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import movingmaze.BoardFile;
+import movingmaze.GameEngine;
+import movingmaze.Tile;
+import movingmaze.TileMaze;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of reading a game board, from parsing the file to creating the tiles and games, on square boards from 7x7 to 501x501.
+ * @author Philip de Bruyn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoardFileBenchmark {
+
+    @Param({"7", "51", "101", "251", "501"})
+    public int size;
+
+    private String[] encodings;
+    private String textFile;
+    private String binaryFile;
+    private BoardFile board;
+
+    /**
+     * Writes a generated board of the benchmarked size to a text file and a binary file.
+     * @throws IOException if the files cannot be written.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        encodings = Boards.tiles(size, 42);
+        Path text = Boards.writeText(size, 42);
+        textFile = text.toString();
+
+        Path binary = Files.createTempFile("board" + size + "-", ".mmb");
+        binary.toFile().deleteOnExit();
+        binaryFile = binary.toString();
+        board = BoardFile.loadText(textFile);
+        board.saveBinary(binaryFile);
+    }
+
+    /**
+     * Creates the tiles of the maze from their encodings.
+     * @return the tiles.
+     */
+    @Benchmark
+    public Tile[] createTiles() {
+        return TileMaze.createTiles(encodings);
+    }
+
+    /**
+     * Parses a board in the text format.
+     * @return the board.
+     * @throws IOException if the file cannot be read.
+     */
+    @Benchmark
+    public BoardFile loadText() throws IOException {
+        return BoardFile.loadText(textFile);
+    }
+
+    /**
+     * Reads a board in the binary format.
+     * @return the board.
+     * @throws IOException if the file cannot be read.
+     */
+    @Benchmark
+    public BoardFile loadBinary() throws IOException {
+        return BoardFile.load(binaryFile);
+    }
+
+    /**
+     * Creates a new game on a board that is already loaded, which only makes the per-game state of the tiles.
+     * @return the game.
+     */
+    @Benchmark
+    public GameEngine newGame() {
+        return board.newGame();
+    }
+}
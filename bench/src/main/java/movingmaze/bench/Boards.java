@@ -0,0 +1,88 @@
+package movingmaze.bench;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generates square game boards of any size in the text format of the game board files, with random tiles and
+ * {@link #RELICS_PER_ADVENTURER} relics for each adventurer. The same size and seed always give the same board.
+ * @author Philip de Bruyn
+ */
+final class Boards {
+
+    static final int RELICS_PER_ADVENTURER = 2;
+    static final String FLOATING_TILE = "1010xx";
+
+    private static final String COLORS = "gyrb";
+
+    private Boards() {
+    }
+
+    /**
+     * Creates the tile encodings of a board, row by row.
+     * @param size the number of rows and columns of the board, at least 3.
+     * @param seed the seed of the random tiles.
+     * @return the tile encodings, such as "0110r2".
+     */
+    static String[] tiles(int size, long seed) {
+        Random random = new Random(seed);
+        String[] tiles = new String[size * size];
+        for (int i = 0; i < tiles.length; i++) {
+            int openings = 1 + random.nextInt(15); // never closed on all sides
+            StringBuilder tile = new StringBuilder(6);
+            for (int bit = 0; bit < 4; bit++) {
+                tile.append((openings >> bit & 1) == 1 ? '1' : '0');
+            }
+            tiles[i] = tile.append("xx").toString();
+        }
+
+        for (int iColor = 0; iColor < COLORS.length(); iColor++) {
+            for (int num = 1; num <= RELICS_PER_ADVENTURER; num++) {
+                int cell;
+                do {
+                    cell = random.nextInt(tiles.length);
+                } while (tiles[cell].charAt(4) != 'x' || isCorner(cell, size)); // the adventurers start on the corners
+                tiles[cell] = tiles[cell].substring(0, 4) + COLORS.charAt(iColor) + num;
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Writes a board to a temporary file in the text format.
+     * @param size the number of rows and columns of the board.
+     * @param seed the seed of the random tiles.
+     * @return the path of the file, which is deleted when the JVM exits.
+     * @throws IOException if the file cannot be written.
+     */
+    static Path writeText(int size, long seed) throws IOException {
+        String[] tiles = tiles(size, seed);
+        StringBuilder text = new StringBuilder(tiles.length * 7 + 32);
+        text.append(size).append(' ').append(size).append('\n');
+        text.append(RELICS_PER_ADVENTURER).append('\n');
+        text.append(FLOATING_TILE).append('\n');
+        for (int iRow = 0; iRow < size; iRow++) {
+            for (int iCol = 0; iCol < size; iCol++) {
+                text.append(tiles[iRow * size + iCol]).append(iCol == size - 1 ? '\n' : ' ');
+            }
+        }
+        Path file = Files.createTempFile("board" + size + "-", ".txt");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, text);
+        return file;
+    }
+
+    /**
+     * Checks whether a cell is one of the four corners of the board.
+     * @param cell the row-major index of the cell.
+     * @param size the number of rows and columns of the board.
+     * @return {@code true} for a corner.
+     */
+    private static boolean isCorner(int cell, int size) {
+        int row = cell / size;
+        int col = cell % size;
+        return (row == 0 || row == size - 1) && (col == 0 || col == size - 1);
+    }
+}
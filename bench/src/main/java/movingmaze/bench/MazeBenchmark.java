@@ -0,0 +1,118 @@
+package movingmaze.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import movingmaze.Adventurer;
+import movingmaze.GameEngine;
+import movingmaze.GameState;
+import movingmaze.PackedMaze;
+import movingmaze.Tile;
+import movingmaze.TileMaze;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the operations a game performs every turn, on square boards from 7x7 to 501x501.
+ * Every benchmark method runs in its own fork, so a benchmark that slides the maze does not change the maze another one measures.
+ * @author Philip de Bruyn
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MazeBenchmark {
+
+    @Param({"7", "51", "101", "251", "501"})
+    public int size;
+
+    private TileMaze tileMaze;
+    private GameState gameState;
+    private Tile[][] maze;
+    private PackedMaze packedMaze;
+    private Tile floatingTile;
+    private Adventurer player;
+    private final StringBuilder frame = new StringBuilder(); // reused by every render, so only the rendering itself is measured
+
+    /**
+     * Creates a new game on a generated board of the benchmarked size.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameEngine engine = new GameEngine(size, size, Boards.RELICS_PER_ADVENTURER, Boards.FLOATING_TILE, Boards.tiles(size, 42));
+        tileMaze = engine.getTileMaze();
+        gameState = engine.getGameState();
+        floatingTile = engine.getFloatingTile();
+        maze = tileMaze.getMaze();
+        packedMaze = tileMaze.getPackedMaze();
+        player = gameState.getCurrentTurn();
+    }
+
+    /**
+     * Slides the floating tile into the second row, keeping the tile that is pushed out as the next floating tile.
+     * @return the new floating tile.
+     */
+    @Benchmark
+    public Tile slideIntoMaze() {
+        floatingTile = tileMaze.slideIntoMaze("w2", floatingTile);
+        return floatingTile;
+    }
+
+    /**
+     * Updates the positions of the adventurers after a slide into the second row.
+     */
+    @Benchmark
+    public void updateAdventurersPosition() {
+        tileMaze.updateAdventurersPosition('w', 2);
+    }
+
+    /**
+     * Checks whether the current adventurer can reach the opposite corner of the maze.
+     * @return {@code true} if there is a path.
+     */
+    @Benchmark
+    public boolean isValidPath() {
+        return gameState.isValidPath(size, size, maze);
+    }
+
+    /**
+     * Finds every tile the current adventurer can reach, marking the maze as changed first so that the cached set is not reused.
+     * @return the reachable set.
+     */
+    @Benchmark
+    public long[] reachableSet() {
+        packedMaze.markChanged();
+        return gameState.getReachableSet(maze);
+    }
+
+    /**
+     * Un-hides the next relic of the current adventurer.
+     */
+    @Benchmark
+    public void unHideNextRelic() {
+        gameState.unHideNextRelic(player, maze, floatingTile);
+    }
+
+    /**
+     * Renders the maze as text, as {@link TileMaze#drawTextMaze()} does before printing it.
+     * @return the rendered maze.
+     */
+    @Benchmark
+    public StringBuilder appendTextMaze() {
+        frame.setLength(0);
+        tileMaze.appendTextMaze(frame);
+        return frame;
+    }
+}
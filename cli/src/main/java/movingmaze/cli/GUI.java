@@ -0,0 +1,574 @@
+package movingmaze.cli;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import movingmaze.GameState;
+import movingmaze.PackedMaze;
+import movingmaze.PathFinder;
+import movingmaze.Tile;
+
+/**
+ * Class that handles the creation and updating of the GUI using the {@code StdDraw} library.
+ * The tiles are drawn as sprites that are rasterised once for every combination of openings, relic and adventurers and then reused.
+ * The maze is kept as a cached board layer in which only tiles whose sprite changed are redrawn, so a frame is a few text calls,
+ * one image for the board and one for the floating tile, plus overlays such as the pathfinder square.
+ *
+ * @author Philip de Bruyn
+ */
+public class GUI {
+
+    private Tile[][] maze;
+
+    private Position[][] positions;
+
+    private Tile floatingTile;
+    private GameState gameState;
+    private double tileLength;
+    private double numRows;
+    private double numCols;
+
+    private int slidingCounter; // keeps track of how many sliding points there are in the slidingPoints array ( also used to enter slidingPoint objects into the array itself as a simple loop could not be imployed
+
+    private SlidingPoint[] slidingPoints; // array of slidingPoint objects
+    private SlidingPoint[][] slidingPointGrid; // the sliding point in each cell of the ring around the maze, indexed by row and column from 0 to n + 1
+    private int middleRow; // the row and column of the tile drawn at 0,0
+    private int middleCol;
+
+    private static final int CANVAS_SIZE = 950; // width and height of the window in pixels
+    private static final double PIXELS_PER_UNIT = 2.0 * CANVAS_SIZE / 200; // StdDraw draws at twice the window resolution and the window is 200 units wide
+    private static final Color TILE_COLOR = new Color(128, 0, 0);
+    private static final Color[] ADVENTURER_COLORS = {StdDraw.GREEN, StdDraw.YELLOW, StdDraw.RED, StdDraw.BLUE}; // in the order Green, Yellow, Red, Blue
+    private static final String RELIC_COLORS = "gyrb"; // relic colours in the same order
+
+    private int spriteSize; // width and height of a tile sprite in pixels
+    private Map<Integer, BufferedImage> sprites = new HashMap<>(); // tile sprites by sprite key, see spriteKey(Tile, boolean)
+    private BufferedImage boardLayer; // the maze and its sliding points, with a ring of one tile around the maze for the sliding points
+    private Graphics2D boardGraphics;
+    private int[] boardKeys; // the sprite key of every tile as it is currently drawn in the board layer, row-major
+    private double boardX; // centre of the board layer in GUI coordinates
+    private double boardY;
+    private BufferedImage reachLayer; // translucent shading over the tiles the current player can reach, the same size as the board layer
+    private long[] reachable; // the tiles the current player can reach ( see PathFinder ), or null outside the moving phase
+    private static final Color REACHABLE_COLOR = new Color(0, 255, 0, 60);
+
+    private GuiInput input; // queue of the key presses and mouse events of the window
+
+    /**
+     * Constructor for the GUI object. It sets up the scaling and canvas size of the GUI as well as instantiating important variables needed for drawing objects.
+     *
+     * @param gameState    a gameState object that contains vital methods and variables for GUI information.
+     * @param maze         A 2D tile array that represents the maze.
+     * @param floatingTile a tile that represents the current floating tile.
+     */
+    public GUI(GameState gameState, Tile[][] maze, Tile floatingTile) {
+        this.maze = maze;
+        this.gameState = gameState;
+        this.floatingTile = floatingTile;
+
+
+        numRows = (double) maze.length - 1;
+        numCols = (double) maze[0].length - 1;
+
+        positions = new Position[maze.length][maze[0].length]; // create array that will hold positions of the tiles in it
+        int numEvenRows = (maze.length - 1) / 2;
+        int numEvenCols = (maze[0].length - 1) / 2;
+
+        slidingPoints = new SlidingPoint[2 * numEvenRows + 2 * numEvenCols]; // make an array of number of even rows and cols for sliding points
+        slidingCounter = 0;
+
+        if (numRows <= numCols) { // if rows < cols, use rows to determine tile length and a vice versa
+            tileLength = 100 / numCols;
+        } else {
+            tileLength = 100 / numRows;
+        }
+        layout();
+        createBoardLayer();
+
+        // sets up the co-oridinates and canvas size once
+        StdDraw.enableDoubleBuffering();
+        StdDraw.setCanvasSize(CANVAS_SIZE, CANVAS_SIZE);
+        StdDraw.setXscale(-100, 100);
+        StdDraw.setYscale(-100, 100);
+        input = GuiInput.listen();
+
+    }
+
+    /**
+     * Waits until the player presses a key, clicks or moves the mouse, and returns what they did.
+     * @return the next {@code GuiEvent}.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public GuiEvent nextEvent() throws InterruptedException {
+        return input.take();
+    }
+
+    /**
+     * Void method that draws the current maze, title and scoreboard onto the GUI window
+     */
+    public void drawMaze() { // draws current maze
+
+        drawTitle();
+        drawScoreboard();
+        drawTiles();
+        if (reachable != null && gameState.isMoving()) {
+            StdDraw.picture(boardX, boardY, reachLayer, (numCols + 2) * tileLength, (numRows + 2) * tileLength);
+        }
+        StdDraw.show();
+
+
+    }
+
+    /**
+     * Void method that works out which tiles the current player can reach and shades them in the reach layer. It is called when the moving
+     * phase starts and after every step, so hovering over a tile only has to look it up in the stored set.
+     */
+    public void updateReachable() {
+        if (!gameState.isMoving()) {
+            reachable = null;
+            return;
+        }
+        reachable = gameState.getReachableSet(maze).clone(); // the set from GameState is shared with its cache
+
+        Graphics2D g = reachLayer.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, reachLayer.getWidth(), reachLayer.getHeight());
+        g.setComposite(AlphaComposite.SrcOver);
+        g.setColor(REACHABLE_COLOR);
+        int cols = (int) numCols;
+        for (int iWord = 0; iWord < reachable.length; iWord++) {
+            long word = reachable[iWord];
+            while (word != 0) {
+                int cell = iWord * 64 + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                g.fillRect((cell % cols + 1) * spriteSize, (cell / cols + 1) * spriteSize, spriteSize, spriteSize);
+            }
+        }
+        g.dispose();
+    }
+
+    /**
+     * Void method that draws the current title onto the GUI window.
+     */
+    private void drawTitle() {
+        StdDraw.setPenColor(StdDraw.BLACK);
+        StdDraw.filledRectangle(0, 0, 100, 100); // clear background and draw title on top
+
+
+        switch (gameState.getCurrentTurn().getColor()) {
+            case 'G':
+                StdDraw.setPenColor(StdDraw.GREEN);
+                break;
+            case 'B':
+                StdDraw.setPenColor(StdDraw.BLUE);
+                break;
+            case 'R':
+                StdDraw.setPenColor(StdDraw.RED);
+                break;
+            case 'Y':
+                StdDraw.setPenColor(StdDraw.YELLOW);
+                break;
+        }
+        String moveType;
+        if (gameState.isMoving()) {
+            moveType = "turn to move";
+        } else {
+            moveType = "turn to rotate or slide";
+        }
+
+        StdDraw.text(0.0, 85.00, gameState.getCurrentTurn().getColorString() + "'s " + moveType);
+
+    }
+
+    /**
+     * Void method that draws the scoreboard onto the GUI window.
+     */
+    private void drawScoreboard() {
+        StdDraw.setPenColor(StdDraw.GREEN);
+        StdDraw.text(-50.00, -85.00, "Green : " + "\t" + gameState.getAdventurers()[0].getNumRelicCollected());
+
+        StdDraw.setPenColor(StdDraw.YELLOW);
+        StdDraw.text(50.00, -85.00, "Yellow : " + "\t" + gameState.getAdventurers()[1].getNumRelicCollected());
+
+        StdDraw.setPenColor(StdDraw.RED);
+        StdDraw.text(-50.00, -95.00, "Red : " + "\t" + gameState.getAdventurers()[2].getNumRelicCollected());
+
+        StdDraw.setPenColor(StdDraw.BLUE);
+        StdDraw.text(50.00, -95.00, "Blue : " + "\t" + gameState.getAdventurers()[3].getNumRelicCollected());
+    }
+
+    /**
+     * Void method that draws the maze onto the GUI window. Only the tiles that changed since the last frame are redrawn into the board layer,
+     * after which the whole layer and the floating tile are drawn as images.
+     */
+    private void drawTiles() {
+
+        for (int iRow = 1; iRow < maze.length; iRow++) {
+
+            for (int iCol = 1; iCol < maze[0].length; iCol++) {
+
+                int key = spriteKey(maze[iRow][iCol], false);
+                int index = (iRow - 1) * (maze[0].length - 1) + (iCol - 1);
+                if (boardKeys[index] != key) { // the tile looks different, so replace its sprite in the board layer
+                    boardKeys[index] = key;
+                    boardGraphics.drawImage(getSprite(key), iCol * spriteSize, iRow * spriteSize, null);
+                }
+
+            }
+
+        }
+
+        StdDraw.picture(boardX, boardY, boardLayer, (numCols + 2) * tileLength, (numRows + 2) * tileLength);
+        StdDraw.picture(-80.00, -60.00, getSprite(spriteKey(floatingTile, true)), tileLength, tileLength);
+    }
+
+    /**
+     * Void method that works out the position of every tile and sliding point on the GUI window. The tile in the middle row and column is drawn at 0,0.
+     */
+    private void layout() {
+        middleRow = (int) (Math.ceil(numRows / 2));
+        middleCol = (int) (Math.ceil(numCols / 2)); // get the middle ( where we start printing )
+        slidingCounter = 0;
+        slidingPointGrid = new SlidingPoint[maze.length + 1][maze[0].length + 1];
+
+        for (int iRow = 1; iRow < maze.length; iRow++) {
+
+            for (int iCol = 1; iCol < maze[0].length; iCol++) {
+
+                double xCord = (iCol - middleCol) * tileLength;
+                double yCord = (middleRow - iRow) * tileLength;
+                positions[iRow][iCol] = new Position(xCord, yCord, iRow, iCol);
+
+                if (iRow == 1 && iCol % 2 == 0) { // a sliding point above each even column of the top row
+                    slidingPoints[slidingCounter] = new SlidingPoint(iRow, iCol, xCord, yCord + tileLength, "n" + iCol);
+                    slidingPointGrid[0][iCol] = slidingPoints[slidingCounter++];
+                }
+                if (iRow == maze.length - 1 && iCol % 2 == 0) { // a sliding point below each even column of the bottom row
+                    slidingPoints[slidingCounter] = new SlidingPoint(iRow, iCol, xCord, yCord - tileLength, "s" + iCol);
+                    slidingPointGrid[maze.length][iCol] = slidingPoints[slidingCounter++];
+                }
+                if (iCol == 1 && iRow % 2 == 0) { // a sliding point left of each even row of the left most column
+                    slidingPoints[slidingCounter] = new SlidingPoint(iRow, iCol, xCord - tileLength, yCord, "w" + iRow);
+                    slidingPointGrid[iRow][0] = slidingPoints[slidingCounter++];
+                }
+                if (iCol == maze[0].length - 1 && iRow % 2 == 0) { // a sliding point right of each even row of the right most column
+                    slidingPoints[slidingCounter] = new SlidingPoint(iRow, iCol, xCord + tileLength, yCord, "e" + iRow);
+                    slidingPointGrid[iRow][maze[0].length] = slidingPoints[slidingCounter++];
+                }
+
+            }
+
+        }
+
+        boardX = ((1 + numCols) / 2 - middleCol) * tileLength; // centre of the maze, halfway between the first and last column
+        boardY = (middleRow - (1 + numRows) / 2) * tileLength;
+    }
+
+    /**
+     * Void method that creates the board layer and draws the sliding points into it. The tiles are drawn into it by {@link #drawTiles()}.
+     */
+    private void createBoardLayer() {
+        spriteSize = Math.max(1, (int) Math.round(tileLength * PIXELS_PER_UNIT));
+        boardLayer = new BufferedImage(((int) numCols + 2) * spriteSize, ((int) numRows + 2) * spriteSize, BufferedImage.TYPE_INT_ARGB);
+        boardGraphics = boardLayer.createGraphics();
+        boardGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        reachLayer = new BufferedImage(boardLayer.getWidth(), boardLayer.getHeight(), BufferedImage.TYPE_INT_ARGB);
+
+        boardKeys = new int[(int) numRows * (int) numCols];
+        Arrays.fill(boardKeys, -1); // no tile has been drawn yet
+
+        boardGraphics.setColor(StdDraw.LIGHT_GRAY);
+        for (int iCol = 2; iCol <= numCols; iCol += 2) { // sliding points above and below each even column
+            drawSlidePoint(0, iCol);
+            drawSlidePoint((int) numRows + 1, iCol);
+        }
+        for (int iRow = 2; iRow <= numRows; iRow += 2) { // sliding points left and right of each even row
+            drawSlidePoint(iRow, 0);
+            drawSlidePoint(iRow, (int) numCols + 1);
+        }
+    }
+
+    /**
+     * Void method that draws a sliding point into the board layer.
+     * @param iRow row of the sliding point, 0 for above the maze.
+     * @param iCol column of the sliding point, 0 for left of the maze.
+     */
+    private void drawSlidePoint(int iRow, int iCol) {
+        double radius = spriteSize / 10.0;
+        double centreX = (iCol + 0.5) * spriteSize;
+        double centreY = (iRow + 0.5) * spriteSize;
+        boardGraphics.fill(new Ellipse2D.Double(centreX - radius, centreY - radius, 2 * radius, 2 * radius));
+    }
+
+    /**
+     * Method that determines whether the mouse cursor is inside the Maze section of the GUI and should draw a pathfinder square around a tile.
+     * @param xMouse x-Coordinate of the mouse cursor
+     * @param yMouse y-Coordinate of the mouse cursor
+     * @return true if the mouse cursor is inside the maze section of the GUI
+     */
+    public boolean canDraw(double xMouse, double yMouse) {
+        int iRow = rowAt(yMouse);
+        int iCol = colAt(xMouse);
+        return iRow >= 1 && iRow < maze.length && iCol >= 1 && iCol < maze[0].length;
+    }
+
+    /**
+     * Returns the position of the tile that is currently being hovered over by the mouse
+     * @param xMouse x-Coordinate of the mouse cursor
+     * @param yMouse y-Coordinate of the mouse cursor
+     * @return a position object if mouse is hovering over a tile and null otherwise.
+     */
+    public Position getPosition(double xMouse, double yMouse) {
+        if (!canDraw(xMouse, yMouse)) {
+            return null;
+        }
+        return positions[rowAt(yMouse)][colAt(xMouse)];
+    }
+
+    /**
+     * Method that returns the row of the maze that a y-coordinate falls in, worked out from the tile length instead of searching the tiles.
+     * @param yCord a y-coordinate on the GUI window.
+     * @return the row, which may be outside the maze ( 0 for the row above it ).
+     */
+    private int rowAt(double yCord) {
+        return middleRow - (int) Math.floor(yCord / tileLength + 0.5);
+    }
+
+    /**
+     * Method that returns the column of the maze that an x-coordinate falls in, worked out from the tile length instead of searching the tiles.
+     * @param xCord an x-coordinate on the GUI window.
+     * @return the column, which may be outside the maze ( 0 for the column left of it ).
+     */
+    private int colAt(double xCord) {
+        return middleCol + (int) Math.floor(xCord / tileLength + 0.5);
+    }
+
+    /**
+     * Void method that draws the green pathfinder square on the currently selected tile if the player can move there and a red square if they cannot move there.
+     * @param xMouse x-Coordinate of the mouse cursor
+     * @param yMouse y-Coordinate of the mouse cursor
+     */
+    public void drawPathfinderSquare(double xMouse, double yMouse) {
+
+        Position position = getPosition(xMouse, yMouse);
+        if (position != null) { // if are on a tile , see if we can get there
+
+            if (canMove(xMouse, yMouse)) {
+                StdDraw.setPenColor(StdDraw.GREEN);
+            } else {
+                StdDraw.setPenColor(StdDraw.RED);
+            }
+            StdDraw.square(position.getxCord(), position.getyCord(), tileLength / 2);
+
+        }
+        StdDraw.show();
+
+    }
+
+    /**
+     * Method that determines whether the current player can move to the tile specified by the x and y coordinate of the current mouse position.
+     * @param xMouse x-Coordinate of the mouse cursor
+     * @param yMouse y-Coordinate of the mouse cursor
+     * @return true if the player can move to tile currently being hovered on by the mouse cursor
+     */
+    public boolean canMove(double xMouse, double yMouse) {
+        Position position = getPosition(xMouse, yMouse);
+        // if there is a valid path to the currently highlighted postion, draw a green square
+        if (reachable != null) {
+            return PathFinder.isInSet(reachable, (int) numCols, position.getRow(), position.getCol());
+        }
+        return gameState.isValidPath(position.getCol(), position.getRow(), maze);
+    }
+
+    /**
+     * Determines whether a slidingPoint was pressed on the GUI window.
+     * @param mouseX x-Coordinate of the mouse cursor
+     * @param mouseY y-Coordinate of the mouse cursor
+     * @return true if a slidingPoint was pressed.
+     */
+    public boolean wasSlidingPointPressed(double mouseX, double mouseY) {
+        return getPoint(mouseX, mouseY) != null;
+    }
+
+    /**
+     * Returns the slidingPoint that was pressed. It is used in conjunction with #wasSlidingPointPressed.
+     * @param x x-Coordinate of the mouse cursor
+     * @param y y-Coordinate of the mouse cursor
+     * @return the slidingPoint object from the slidingPoints array that was pressed by the user.
+      */
+    public SlidingPoint getPoint(double x, double y) {
+        int iRow = rowAt(y);
+        int iCol = colAt(x);
+        if (iRow < 0 || iRow > maze.length || iCol < 0 || iCol > maze[0].length) { // not in the maze or the ring around it
+            return null;
+        }
+
+        SlidingPoint point = slidingPointGrid[iRow][iCol]; // the only sliding point that can be under the cursor
+        double radius = tileLength / 10;
+        if (point != null && Math.abs(x - point.getxCord()) <= radius && Math.abs(y - point.getyCord()) <= radius) { // if x and y are inside of circle
+            return point;
+        }
+        return null;
+    }
+
+    /**
+     * Method that packs everything that changes how a tile looks into one number: bits 0 to 3 are the openings, bits 4 to 7 the adventurers
+     * on the tile, bits 8 to 10 the colour of a visible relic, bits 11 to 13 the adventurer whose turn it is if they are on the tile and bit 14
+     * is set for the floating tile, which has a white border.
+     * @param tile the tile to draw.
+     * @param floating true for the floating tile.
+     * @return the sprite key of the tile.
+     */
+    private int spriteKey(Tile tile, boolean floating) {
+        int key = tile.getOpenings();
+        key |= (int) (tile.getOccupants() & 0xF) << 4; // the first four adventurers, the GUI has no room for more
+        int current = gameState.getCurrentTurn().getIndex();
+        if (current < 4 && tile.hasAdventurer(current)) {
+            key |= (current + 1) << 11;
+        }
+        if (tile.hasRelic() && !tile.getRelic().isHidden()) {
+            key |= (RELIC_COLORS.indexOf(tile.getRelic().getColor()) + 1) << 8;
+        }
+        if (floating) {
+            key |= 1 << 14;
+        }
+        return key;
+    }
+
+    /**
+     * Method that returns the sprite of a sprite key, drawing it the first time it is needed.
+     * @param key a sprite key made by {@link #spriteKey(Tile, boolean)}.
+     * @return the sprite.
+     */
+    private BufferedImage getSprite(int key) {
+        BufferedImage sprite = sprites.get(key);
+        if (sprite == null) {
+            sprite = createSprite(key);
+            sprites.put(key, sprite);
+        }
+        return sprite;
+    }
+
+    /**
+     * Method that draws a tile sprite: the pathways of the open sides, the adventurers, a visible relic and the adventurer whose turn it is on top.
+     * @param key a sprite key made by {@link #spriteKey(Tile, boolean)}.
+     * @return a new sprite of {@code spriteSize} by {@code spriteSize} pixels.
+     */
+    private BufferedImage createSprite(int key) {
+        BufferedImage sprite = new BufferedImage(spriteSize, spriteSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = sprite.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        double block = spriteSize / 10.0; // divide tile into grid if 10 squares ( first block centered in the middle )
+        double centre = spriteSize / 2.0;
+
+        g.setColor(TILE_COLOR);
+        g.fillRect(0, 0, spriteSize, spriteSize);
+
+        g.setColor(StdDraw.WHITE);
+        g.fill(square(centre, centre, 2 * block));
+        if ((key & PackedMaze.NORTH) != 0) {
+            g.fill(square(centre, centre - 3 * block, 2 * block));
+        }
+        if ((key & PackedMaze.EAST) != 0) {
+            g.fill(square(centre + 3 * block, centre, 2 * block));
+        }
+        if ((key & PackedMaze.SOUTH) != 0) {
+            g.fill(square(centre, centre + 3 * block, 2 * block));
+        }
+        if ((key & PackedMaze.WEST) != 0) {
+            g.fill(square(centre - 3 * block, centre, 2 * block));
+        }
+
+        for (int i = 0; i < 4; i++) { // now draw adventurers and relics
+            if ((key & (1 << (4 + i))) != 0) {
+                g.setColor(ADVENTURER_COLORS[i]);
+                g.fill(new Ellipse2D.Double(centre - 1.5 * block, centre - 1.5 * block, 3 * block, 3 * block));
+            }
+        }
+
+        int relic = (key >>> 8) & 7;
+        if (relic != 0) {
+            g.setColor(ADVENTURER_COLORS[relic - 1]);
+            g.fill(square(centre, centre, block));
+        }
+
+        int current = (key >>> 11) & 7;
+        if (current != 0) { // the adventurer whose turn it is is drawn on top
+            g.setColor(ADVENTURER_COLORS[current - 1]);
+            g.fill(new Ellipse2D.Double(centre - 1.5 * block, centre - 1.5 * block, 3 * block, 3 * block));
+        }
+
+        g.setColor((key & (1 << 14)) != 0 ? StdDraw.WHITE : StdDraw.BLACK);
+        g.setStroke(new BasicStroke(4f)); // about as wide as the default StdDraw pen at this resolution
+        g.drawRect(0, 0, spriteSize, spriteSize);
+        g.dispose();
+        return sprite;
+    }
+
+    /**
+     * Method that creates a square around a centre point, in sprite pixels.
+     * @param x x-Coordinate of the centre.
+     * @param y y-Coordinate of the centre.
+     * @param halfLength half the length of a side.
+     * @return the square.
+     */
+    private static Rectangle2D square(double x, double y, double halfLength) {
+        return new Rectangle2D.Double(x - halfLength, y - halfLength, 2 * halfLength, 2 * halfLength);
+    }
+
+    /**
+     * Void method that prints the end-screen once a player has won the game, and waits for the player to press enter to close it.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public void drawEndScreen() throws InterruptedException {
+        StdDraw.setPenColor(StdDraw.BLACK);
+        StdDraw.filledRectangle(0, 0, 100, 100);
+
+        switch (gameState.getCurrentTurn().getColor()) { // place adventurer on tile if there is one
+
+            case 'G':
+
+                StdDraw.setPenColor(StdDraw.GREEN);
+                break;
+            case 'Y':
+
+                StdDraw.setPenColor(StdDraw.YELLOW);
+                break;
+            case 'R':
+
+                StdDraw.setPenColor(StdDraw.RED);
+                break;
+            case 'B':
+                StdDraw.setPenColor(StdDraw.BLUE);
+                break;
+        }
+        StdDraw.setPenRadius();
+        StdDraw.setPenRadius(1);
+        StdDraw.text(0.0, 50.00, gameState.getCurrentTurn().getColorString() + " has won!");
+        StdDraw.text(0.0, 00.00, "Please press Enter to close this screen");
+        StdDraw.show();
+        while (!input.take().isKey(10)) { // wait for user to press enter
+        }
+        System.exit(0);
+
+
+    }
+
+    /**
+     * Setter method that is used to update the new floating tile as a result of rotating or sliding.
+     * @param floatingTile the new floating tile.
+     */
+    public void setFloatingTile(Tile floatingTile) {
+        this.floatingTile = floatingTile;
+    }
+
+}
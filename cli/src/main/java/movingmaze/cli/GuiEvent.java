@@ -0,0 +1,71 @@
+package movingmaze.cli;
+
+/**
+ * Class used to create GuiEvent objects that describe one input from the player in GUI mode: a key press, a mouse click or a mouse movement.
+ * They are queued by {@code GuiInput} so that the GUI game loop can wait for input instead of polling for it.
+ * @author Philip de Bruyn
+ * @see GuiInput
+ */
+public class GuiEvent {
+
+    /**
+     * The kinds of input that the {@code GuiInput} queue reports.
+     */
+    public enum Type {
+        KEY, // a key was pressed, keyCode holds which one
+        CLICK, // a mouse button was pressed at x, y
+        MOVE // the mouse moved to x, y
+    }
+
+    private final Type type;
+    private final int keyCode;
+    private final double x;
+    private final double y;
+
+    /**
+     * Constructor for the GuiEvent object.
+     * @param type the kind of input.
+     * @param keyCode the key code of a key press, or 0 for mouse input.
+     * @param x the x-coordinate of the mouse in GUI coordinates.
+     * @param y the y-coordinate of the mouse in GUI coordinates.
+     */
+    public GuiEvent(Type type, int keyCode, double x, double y) {
+        this.type = type;
+        this.keyCode = keyCode;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Returns the kind of input.
+     * @return the {@code Type} of the event.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Checks whether the event is a press of the given key.
+     * @param code a key code, such as 10 for enter.
+     * @return {@code true} if this event is a press of that key.
+     */
+    public boolean isKey(int code) {
+        return type == Type.KEY && keyCode == code;
+    }
+
+    /**
+     * Returns the x-coordinate of the mouse.
+     * @return the x-coordinate in GUI coordinates.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y-coordinate of the mouse.
+     * @return the y-coordinate in GUI coordinates.
+     */
+    public double getY() {
+        return y;
+    }
+}
@@ -0,0 +1,125 @@
+package movingmaze.cli;
+
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The GuiInput class turns the key and mouse callbacks of {@code StdDraw} into a queue of {@code GuiEvent} objects. The GUI game loop blocks
+ * on {@link #take()} until the player does something, so the program uses no processor time while it waits and reacts as soon as input arrives.
+ * Mouse movements are merged, so at most one movement is waiting in the queue and it always reports the latest mouse position.
+ * @author Philip de Bruyn
+ * @see GUI
+ */
+public class GuiInput implements KeyListener, MouseListener, MouseMotionListener {
+
+    private final BlockingQueue<GuiEvent> events = new LinkedBlockingQueue<>();
+    private final AtomicBoolean movePending = new AtomicBoolean(); // whether a mouse movement is already waiting in the queue
+
+    /**
+     * Creates a GuiInput and subscribes it to the key and mouse events of the {@code StdDraw} window.
+     * @return a new {@code GuiInput}.
+     */
+    public static GuiInput listen() {
+        GuiInput input = new GuiInput();
+        StdDraw.addKeyListener(input);
+        StdDraw.addMouseListener(input);
+        StdDraw.addMouseMotionListener(input);
+        return input;
+    }
+
+    /**
+     * Waits until the player does something and returns it.
+     * @return the next {@code GuiEvent}.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public GuiEvent take() throws InterruptedException {
+        GuiEvent event = events.take();
+        if (event.getType() == GuiEvent.Type.MOVE) { // report where the mouse is now, not where it was when the movement was queued
+            movePending.set(false);
+            return new GuiEvent(GuiEvent.Type.MOVE, 0, StdDraw.mouseX(), StdDraw.mouseY());
+        }
+        return event;
+    }
+
+    /**
+     * Queues a key press.
+     * @param e the key event.
+     */
+    public void keyPressed(KeyEvent e) {
+        events.add(new GuiEvent(GuiEvent.Type.KEY, e.getKeyCode(), 0, 0));
+    }
+
+    /**
+     * Queues a mouse click at the position StdDraw recorded for it.
+     * @param e the mouse event.
+     */
+    public void mousePressed(MouseEvent e) {
+        events.add(new GuiEvent(GuiEvent.Type.CLICK, 0, StdDraw.mouseX(), StdDraw.mouseY()));
+    }
+
+    /**
+     * Queues a mouse movement, unless one is already waiting.
+     * @param e the mouse event.
+     */
+    public void mouseMoved(MouseEvent e) {
+        if (!movePending.getAndSet(true)) {
+            events.add(new GuiEvent(GuiEvent.Type.MOVE, 0, 0, 0));
+        }
+    }
+
+    /**
+     * Treats dragging the mouse like moving it.
+     * @param e the mouse event.
+     */
+    public void mouseDragged(MouseEvent e) {
+        mouseMoved(e);
+    }
+
+    /**
+     * Not used.
+     * @param e the key event.
+     */
+    public void keyTyped(KeyEvent e) {
+    }
+
+    /**
+     * Not used.
+     * @param e the key event.
+     */
+    public void keyReleased(KeyEvent e) {
+    }
+
+    /**
+     * Not used.
+     * @param e the mouse event.
+     */
+    public void mouseClicked(MouseEvent e) {
+    }
+
+    /**
+     * Not used.
+     * @param e the mouse event.
+     */
+    public void mouseReleased(MouseEvent e) {
+    }
+
+    /**
+     * Not used.
+     * @param e the mouse event.
+     */
+    public void mouseEntered(MouseEvent e) {
+    }
+
+    /**
+     * Not used.
+     * @param e the mouse event.
+     */
+    public void mouseExited(MouseEvent e) {
+    }
+}
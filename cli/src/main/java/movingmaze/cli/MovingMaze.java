@@ -4,11 +4,26 @@
  * Student number: 25968548
  */
 
+package movingmaze.cli;
 
-import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.util.Scanner;
 
+import movingmaze.Adventurer;
+import movingmaze.AdventurerTable;
+import movingmaze.BoardFile;
+import movingmaze.BotStrategy;
+import movingmaze.GameState;
+import movingmaze.GreedyBot;
+import movingmaze.RandomBot;
+import movingmaze.SearchBot;
+import movingmaze.StdOut;
+import movingmaze.Tile;
+import movingmaze.TileMaze;
+import movingmaze.Tournament;
+import movingmaze.TournamentStats;
+
 /**
  * Main class of the moving maze game.
  *
@@ -16,105 +31,68 @@ import java.util.Scanner;
  */
 public class MovingMaze {
 
-    // ==========================================================
-    // Constants
-    // ==========================================================
-
-    // Move these where you'll use them, or refer to them with e.g. MovingMaze.PATH_NESW
-
-    // ═ ║ ╔ ╗ ╚ ╝ ╠ ╣ ╦ ╩ ╬
-    // ─ │ ┌ ┐ └ ┘ ├ ┤ ┬ ┴ ┼
-
-    public static final String PATH_EW = "═";
-    public static final String PATH_NS = "║";
-    public static final String PATH_ES = "╔";
-    public static final String PATH_SW = "╗";
-    public static final String PATH_NE = "╚";
-    public static final String PATH_NW = "╝";
-    public static final String PATH_NES = "╠";
-    public static final String PATH_NSW = "╣";
-    public static final String PATH_ESW = "╦";
-    public static final String PATH_NEW = "╩";
-    public static final String PATH_NESW = "╬";
-
-    public static final String BORDER_HORI = "─";
-    public static final String BORDER_VERT = "│";
-    public static final String BORDER_TOPLEFT = "┌";
-    public static final String BORDER_TOPRIGHT = "┐";
-    public static final String BORDER_BOTTOMLEFT = "└";
-    public static final String BORDER_BOTTOMRIGHT = "┘";
-    public static final String BORDER_LEFTEDGE = "├";
-    public static final String BORDER_RIGHTEDGE = "┤";
-    public static final String BORDER_TOPEDGE = "┬";
-    public static final String BORDER_BOTTOMEDGE = "┴";
-    public static final String BORDER_MIDDLE = "┼";
-
-
     // ==========================================================
     // Main function
     // ==========================================================
 
     /**
      * The main method of MovingMaze.java. This method runs the MovingMaze appliction and takes 2 arguements. The name of the game board text file
-     * and the visual mode, either 'text' or 'gui'.
+     * and the visual mode, either 'text' or 'gui'. The visual mode 'batch' plays automated games instead, see {@link #runBatch(BoardFile, String[])},
+     * and 'convert' writes the board to the binary file named by the third argument, see {@link BoardFile#saveBinary(String)}.
      *
-     * @param args 0: the game board text file name. 1: the visual mode, either 'text' or 'gui'.
+     * @param args 0: the game board file name, in the text or binary format. 1: the visual mode, either 'text', 'gui', 'batch' or 'convert'.
+     *             2: in text mode, 'quiet' skips drawing the maze.
      */
     public static void main(String[] args) {
         String fileName = args[0];  // args[0] will contain the filename of the game board file to be loaded.
-        String visualMode = args[1]; // args[1] will contain either "text" or "gui".
+        String visualMode = args[1]; // args[1] will contain either "text", "gui" or "batch".
         int boardWidth; // stores the board width from the game board file
         int boardHeight;// stores the board height from the game board file
         int K; // the number of relics each adventurer needs to collect
-        String[] encodedStrings;
-        String encodedFloatingTile;
 
 
         try { // create all the needed objects
 
-            File file = new File(fileName); // create a file object for use by the scanner
-            Scanner scanner = new Scanner(file); // create a scanner and read in my gameboard file
-            boardWidth = scanner.nextInt(); // get board width
-            boardHeight = scanner.nextInt();
-            encodedStrings = new String[boardHeight * boardWidth]; // stores all encoded strings for the tile maze, and does not include the floating tile
-            K = scanner.nextInt();
-            encodedFloatingTile = scanner.next();
-            int iCount = 0;
-            while (scanner.hasNext()) {
-
-                encodedStrings[iCount] = scanner.next();
-                iCount++;
+            BoardFile board = BoardFile.load(fileName); // read in my gameboard file
+            boardWidth = board.getBoardWidth(); // get board width
+            boardHeight = board.getBoardHeight();
+            K = board.getK();
 
+            if (visualMode.equals("batch")) { // play automated games instead of an interactive one
+                runBatch(board, args);
+                return;
+            }
+            if (visualMode.equals("convert")) { // write the board in the binary format instead of playing
+                board.saveBinary(args[2]);
+                return;
             }
 
-            TileMaze myMaze = new TileMaze(boardWidth, boardHeight, encodedStrings); // create TileMaze object
-            Adventurer playerGreen = new Adventurer('G', 1, 1); // create adventurers and initial locations
-            Adventurer playerYellow = new Adventurer('Y', 1, boardWidth);
-            Adventurer playerRed = new Adventurer('R', boardHeight, 1);
-            Adventurer playerBlue = new Adventurer('B', boardHeight, boardWidth);
-
-            myMaze.createAdventurer(playerGreen);
-            myMaze.createAdventurer(playerYellow);
-            myMaze.createAdventurer(playerRed);
-            myMaze.createAdventurer(playerBlue);
+            TileMaze myMaze = board.createMaze(); // create TileMaze object
+            Adventurer playerGreen = myMaze.createAdventurer('G', 1, 1); // create adventurers and initial locations, in the order they play
+            Adventurer playerYellow = myMaze.createAdventurer('Y', 1, boardWidth);
+            Adventurer playerRed = myMaze.createAdventurer('R', boardHeight, 1);
+            Adventurer playerBlue = myMaze.createAdventurer('B', boardHeight, boardWidth);
 
 
-            Tile floatingTile = new Tile(encodedFloatingTile);
+            Tile floatingTile = board.createFloatingTile();
 
 
             GameState gameState = new GameState(playerGreen, playerYellow, playerRed, playerBlue, K); // create a new gameState object
+            gameState.setTileMaze(myMaze);
             Scanner inputReader = new Scanner(System.in); // create a scanner to read input
 
 
             // start of text mode
             if (visualMode.equals("text")) {
+                if (args.length > 2 && args[2].equals("quiet")) { // only print the messages, for example when logging many games
+                    myMaze.setRendering(false);
+                }
                 StdOut.println("--------------------------------------------------");
                 StdOut.println("Moving Maze");
                 StdOut.println("Relic goal: " + K);
                 StdOut.println("--------------------------------------------------");
-                while (gameState.gameIsRunning) {
-                    myMaze.drawTextMaze();
-                    floatingTile.drawTile();
+                while (gameState.isRunning()) {
+                    myMaze.drawFrame(floatingTile);
                     while (true) {
                         StdOut.println("[" + gameState.getCurrentTurn().getColorString() + "]" + " Rotate and slide the floating tile:");
                         StdOut.print(">");
@@ -127,8 +105,7 @@ public class MovingMaze {
                                     StdOut.println(" Inserting at " + input + ".");
                                     floatingTile = myMaze.slideIntoMaze(input, floatingTile);
                                     gameState.wrapAroundRelicCollection(myMaze.getMaze(), myMaze, floatingTile);
-                                    myMaze.drawTextMaze();
-                                    floatingTile.drawTile();
+                                    myMaze.drawFrame(floatingTile);
                                     break;
                                 }
                             } else {
@@ -149,18 +126,16 @@ public class MovingMaze {
                         if(input.length() == 1) {
                             switch (input) {
                                 case "r": {
-                                    floatingTile.setDirections(floatingTile.rotateTileClockwise());
+                                    myMaze.rotateFloatingTile(floatingTile, true);
                                     StdOut.println(" Rotating right.");
-                                    myMaze.drawTextMaze();
-                                    floatingTile.drawTile();
+                                    myMaze.drawFrame(floatingTile);
                                     break;
                                 }
 
                                 case "l": {
-                                    floatingTile.setDirections(floatingTile.rotateTileCounterClockwise());
+                                    myMaze.rotateFloatingTile(floatingTile, false);
                                     StdOut.println(" Rotating left.");
-                                    myMaze.drawTextMaze();
-                                    floatingTile.drawTile();
+                                    myMaze.drawFrame(floatingTile);
                                     break;
                                 }
 
@@ -255,219 +230,68 @@ public class MovingMaze {
                 GUI UI = new GUI(gameState, myMaze.getMaze(), floatingTile);
                 UI.drawMaze();
 
-                while (gameState.gameIsRunning) { // GUI game loop begins
-
-                    while (true) { // loop for sliding and rotating
-
-                        UI.drawMaze();
-                        if (StdDraw.isKeyPressed(39)) { // if right arrow is pressed, rotate floating tile clockwise
-
-                            floatingTile.setDirections(floatingTile.rotateTileClockwise());
-                            UI.drawMaze();
-                            StdOut.println("Pressed right");
-                            Thread.sleep(200);
-
-                        }
-
-                        if (StdDraw.isKeyPressed(37)) { // if left arrow is pressed, rotate floating tile anti-clockwise
-
-                            floatingTile.setDirections(floatingTile.rotateTileCounterClockwise());
-                            UI.drawMaze();
-                            StdOut.println("Pressed left");
-                            Thread.sleep(200);
-
-                        }
-
-                        if (StdDraw.isMousePressed()) {
-
-                            double xMouse = StdDraw.mouseX(); // get co-ordinates of the mouse
-                            double yMouse = StdDraw.mouseY();
-
-
-                            if (UI.wasSlidingPointPressed(xMouse, yMouse)) {
-
-                                if (isValidSlide(UI.getPoint(xMouse, yMouse).getSlidingDirection(), floatingTile)) {
-
-                                    floatingTile = myMaze.slideIntoMaze(UI.getPoint(xMouse, yMouse).getSlidingDirection(), floatingTile);
-                                    gameState.wrapAroundRelicCollection(myMaze.getMaze(), myMaze, floatingTile);
-                                    UI.setFloatingTile(floatingTile);
-                                    UI.drawMaze();
-                                    gameState.startMoving();
-                                    break;
-                                }
-
-                            }
-                            Thread.sleep(200);
-
-                        }
-
-                        if (StdDraw.isKeyPressed(81)) { // w is pressed, so check if we can move north
-
-                            System.exit(0);
-
-                        }
+                while (gameState.isRunning()) { // GUI game loop, it waits for the player and only redraws after something happened
 
+                    GuiEvent event = UI.nextEvent();
 
+                    if (event.isKey(81)) { // q is pressed, so quit
+                        System.exit(0);
                     }
 
-                    while (true) { // moving phase
-                        UI.drawMaze();
-
-                        // pathfinder
-
-                        UI.drawPathfinderSquare(StdDraw.mouseX(), StdDraw.mouseY());
-                        if (StdDraw.isMousePressed()) {
-
-                            double xMouse = StdDraw.mouseX(); // get co-ordinates of the mouse
-                            double yMouse = StdDraw.mouseY();
-
-                            if (UI.canDraw(xMouse, yMouse)) {
-                                if (UI.canMove(xMouse, yMouse)) {
-
-                                    gameState.teleportPlayer(UI.getPosition(xMouse, yMouse).getCol(), UI.getPosition(xMouse, yMouse).getRow(), myMaze.getMaze());
-                                    if (gameState.movementRelicCollection(myMaze.getMaze(), myMaze, floatingTile)) {
-                                        UI.drawMaze();
-                                        gameState.stopMoving();
-                                        break;
-                                    }
+                    if (!gameState.isMoving()) { // sliding and rotating phase
 
-                                    if (gameState.ifWon()) { // if the player moved and is in a winning position, we end game
-                                        UI.drawEndScreen();
-                                    }
-                                }
-                            }
+                        if (event.isKey(39)) { // if right arrow is pressed, rotate floating tile clockwise
+                            myMaze.rotateFloatingTile(floatingTile, true);
                             UI.drawMaze();
-                            Thread.sleep(200);
-
+                            StdOut.println("Pressed right");
                         }
 
-
-                        // end of pathfinder
-                        if (StdDraw.isKeyPressed(87)) { // w is pressed, so check if we can move north
-
-                            if (gameState.isValidPlayerMove('n', myMaze.getMaze())) {
-
-                                gameState.movePlayerNoText('n', myMaze.getMaze());
-
-                                if (gameState.movementRelicCollection(myMaze.getMaze(), myMaze, floatingTile)) {
-                                    UI.drawMaze();
-                                    gameState.stopMoving();
-                                    break;
-                                }
-
-                                if (gameState.ifWon()) { // if the player moved and is in a winning position, we end game
-                                    UI.drawEndScreen();
-                                }
-
-                            }
-
-
+                        if (event.isKey(37)) { // if left arrow is pressed, rotate floating tile anti-clockwise
+                            myMaze.rotateFloatingTile(floatingTile, false);
                             UI.drawMaze();
-
-                            Thread.sleep(200);
-
+                            StdOut.println("Pressed left");
                         }
 
-                        if (StdDraw.isKeyPressed(83)) { // w is pressed, so check if we can move north
-
-                            if (gameState.isValidPlayerMove('s', myMaze.getMaze())) {
-
-                                gameState.movePlayerNoText('s', myMaze.getMaze());
-
-                                if (gameState.movementRelicCollection(myMaze.getMaze(), myMaze, floatingTile)) {
-                                    UI.drawMaze();
-                                    gameState.stopMoving();
-                                    break;
-                                }
-
-                                if (gameState.ifWon()) { // if the player moved and is in a winning position, we end game
-                                    UI.drawEndScreen();
-                                }
-
+                        if (event.getType() == GuiEvent.Type.CLICK && UI.wasSlidingPointPressed(event.getX(), event.getY())) {
+                            String slidingIndicator = UI.getPoint(event.getX(), event.getY()).getSlidingDirection();
+
+                            if (isValidSlide(slidingIndicator, floatingTile)) {
+                                floatingTile = myMaze.slideIntoMaze(slidingIndicator, floatingTile);
+                                gameState.wrapAroundRelicCollection(myMaze.getMaze(), myMaze, floatingTile);
+                                UI.setFloatingTile(floatingTile);
+                                gameState.startMoving();
+                                UI.updateReachable();
+                                UI.drawMaze();
+                                UI.drawPathfinderSquare(StdDraw.mouseX(), StdDraw.mouseY());
                             }
-
-
-                            UI.drawMaze();
-
-                            Thread.sleep(200);
-
                         }
 
-                        if (StdDraw.isKeyPressed(68)) { // w is pressed, so check if we can move north
-
-                            if (gameState.isValidPlayerMove('e', myMaze.getMaze())) {
-
-                                gameState.movePlayerNoText('e', myMaze.getMaze());
-
-                                if (gameState.movementRelicCollection(myMaze.getMaze(), myMaze, floatingTile)) {
-                                    UI.drawMaze();
-                                    gameState.stopMoving();
-                                    break;
-                                }
-
-                                if (gameState.ifWon()) { // if the player moved and is in a winning position, we end game
-                                    UI.drawMaze();
-                                }
-
-                            }
-
-
-                            UI.drawMaze();
-
-                            Thread.sleep(200);
-
+                    } else { // moving phase
 
+                        if (event.getType() == GuiEvent.Type.CLICK && UI.canDraw(event.getX(), event.getY()) && UI.canMove(event.getX(), event.getY())) {
+                            Position destination = UI.getPosition(event.getX(), event.getY());
+                            gameState.teleportPlayer(destination.getCol(), destination.getRow(), myMaze.getMaze());
+                            afterGuiMove(UI, gameState, myMaze, floatingTile);
                         }
 
-                        if (StdDraw.isKeyPressed(65)) { // w is pressed, so check if we can move north
-
-                            if (gameState.isValidPlayerMove('w', myMaze.getMaze())) {
-
-                                gameState.movePlayerNoText('w', myMaze.getMaze());
-
-                                if (gameState.movementRelicCollection(myMaze.getMaze(), myMaze, floatingTile)) {
-                                    UI.drawMaze();
-                                    gameState.stopMoving();
-                                    break;
-                                }
-
-                                if (gameState.ifWon()) { // if the player moved and is in a winning position, we end game
-                                    UI.drawEndScreen();
-
-                                }
-
-                            }
-
-
-                            UI.drawMaze();
-
-                            Thread.sleep(200);
-
-
+                        char dir = directionOfKey(event);
+                        if (dir != 0 && gameState.isValidPlayerMove(dir, myMaze.getMaze())) {
+                            gameState.movePlayerNoText(dir, myMaze.getMaze());
+                            afterGuiMove(UI, gameState, myMaze, floatingTile);
                         }
 
-                        if (StdDraw.isKeyPressed(10)) { // w is pressed, so check if we can move north
-
+                        if (event.isKey(10)) { // enter is pressed, so end the turn
                             gameState.nextTurn();
                             gameState.stopMoving();
-
-                            UI.drawMaze();
-
-                            Thread.sleep(200);
-                            break;
-
+                            UI.updateReachable();
                         }
 
-                        if (StdDraw.isKeyPressed(81)) { // w is pressed, so check if we can move north
-
-                            System.exit(0);
-
+                        UI.drawMaze(); // mouse movements also end up here, to move the pathfinder square
+                        if (gameState.isMoving()) {
+                            UI.drawPathfinderSquare(StdDraw.mouseX(), StdDraw.mouseY());
                         }
-
-
                     }
 
-
                 }
 
             }
@@ -480,12 +304,104 @@ public class MovingMaze {
         } catch (FileNotFoundException e) {
             StdOut.println("The game board file does not exist.");
             System.exit(0);
+        } catch (IOException e) {
+            StdOut.println("The game board file could not be read.");
+            System.exit(0);
         } catch (InterruptedException e) {
             throw new RuntimeException(e);
         }
 
     }
 
+    /**
+     * Collects a relic after the current player moved in GUI mode, which ends their moving phase, or shows the end screen if they have won.
+     *
+     * @param UI the {@code GUI} of the game.
+     * @param gameState the {@code GameState} of the game.
+     * @param myMaze the {@code TileMaze} of the game.
+     * @param floatingTile the current floating tile.
+     * @throws InterruptedException if the thread is interrupted while the end screen waits for input.
+     */
+    private static void afterGuiMove(GUI UI, GameState gameState, TileMaze myMaze, Tile floatingTile) throws InterruptedException {
+        if (gameState.movementRelicCollection(myMaze.getMaze(), myMaze, floatingTile)) {
+            gameState.stopMoving();
+            UI.updateReachable();
+            return;
+        }
+        if (gameState.ifWon()) { // if the player moved and is in a winning position, we end game
+            UI.drawEndScreen();
+        }
+        UI.updateReachable(); // the player has moved, so the tiles they can reach have changed
+    }
+
+    /**
+     * Returns the direction a key moves the current player in GUI mode: w, a, s and d move north, west, south and east.
+     *
+     * @param event a {@code GuiEvent}.
+     * @return one of 'n', 'e', 's' or 'w', or 0 if the event is not a movement key.
+     */
+    private static char directionOfKey(GuiEvent event) {
+        if (event.isKey(87)) {
+            return 'n';
+        }
+        if (event.isKey(83)) {
+            return 's';
+        }
+        if (event.isKey(68)) {
+            return 'e';
+        }
+        if (event.isKey(65)) {
+            return 'w';
+        }
+        return 0;
+    }
+
+    /**
+     * Plays a number of automated games on the board across all processor cores and prints the win rates, game lengths and relic collection timings.
+     * The arguments after the visual mode are the number of games to play and, optionally, a comma separated list of the strategy of each adventurer
+     * in the order Green, Yellow, Red, Blue ( 'random', 'greedy' or 'search' ) and, optionally, the number of adventurers in each game.
+     * Game board files only hold relics for the first four adventurers, so any further adventurers never win.
+     *
+     * @param board the {@code BoardFile} every game is played on.
+     * @param args the arguments of the program: 0: the game board file name. 1: "batch". 2: the number of games. 3: the strategies.
+     *             4: the number of adventurers, 4 by default.
+     */
+    private static void runBatch(BoardFile board, String[] args) {
+        int numGames = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        String[] names = (args.length > 3 ? args[3] : "greedy,greedy,greedy,greedy").split(",");
+        int numAdventurers = args.length > 4 ? Integer.parseInt(args[4]) : 4;
+        if (numAdventurers < AdventurerTable.MIN_ADVENTURERS || numAdventurers > AdventurerTable.MAX_ADVENTURERS) {
+            StdOut.println("The number of adventurers must be from " + AdventurerTable.MIN_ADVENTURERS + " to " + AdventurerTable.MAX_ADVENTURERS + ".");
+            return;
+        }
+        BotStrategy[] strategies = new BotStrategy[numAdventurers];
+
+        for (int i = 0; i < numAdventurers; i++) {
+            String name = names[Math.min(i, names.length - 1)]; // the last strategy given is used for the remaining adventurers
+            switch (name) {
+                case "random":
+                    strategies[i] = new RandomBot();
+                    break;
+                case "greedy":
+                    strategies[i] = new GreedyBot();
+                    break;
+                case "search":
+                    strategies[i] = new SearchBot();
+                    break;
+                default:
+                    StdOut.println("Unknown strategy: " + name);
+                    return;
+            }
+        }
+
+        long start = System.nanoTime();
+        TournamentStats stats = new Tournament(board, strategies, 10000).run(numGames, 1);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        StdOut.print(stats.report());
+        StdOut.printf("Played %d games in %.2f seconds (%.0f games per second)%n", numGames, seconds, numGames / seconds);
+    }
+
     /**
      * A static function to check whether a valid slide can be performed by sliding the {@code floatingTile} into the position indicated by {@code slidingIndicator}. If it can, return {@code true} and if not, return {@code false}.
      *
@@ -494,8 +410,7 @@ public class MovingMaze {
      * @return {@code true} if the slide can be formed.
      */
     public static boolean isValidSlide(String slidingIndicator, Tile floatingTile) {
-        char[] information = slidingIndicator.toCharArray();
-        if (Integer.parseInt(String.valueOf(information[1])) % 2 != 0) { // if the number entered is odd, they cannot slide tile in
+        if (Integer.parseInt(slidingIndicator.substring(1)) % 2 != 0) { // if the number entered is odd, they cannot slide tile in
             StdOut.println(" Cannot slide into odd positions.");
             return false;
 
@@ -746,12 +661,13 @@ public class MovingMaze {
             }
 
         }
-        Adventurer playerGreen = new Adventurer('G', 1, 1); // create adventurers and initial locations
         TileMaze maze = new TileMaze(mazeTileEncodings[0].length, mazeTileEncodings.length, encodedStrings);
-        maze.createAdventurer(playerGreen);
+        Adventurer playerGreen = maze.createAdventurer('G', 1, 1); // create adventurers and initial locations
+        // a game needs a second player, but it never gets a turn and adventurers do not block each other
+        Adventurer playerYellow = maze.createAdventurer('Y', mazeTileEncodings.length, mazeTileEncodings[0].length);
 
 
-        GameState gameState = new GameState(playerGreen, null, null, null, 0);
+        GameState gameState = new GameState(playerGreen, playerYellow, null, null, 0);
 
 
         for (int i = 0; i < steps.length; i++) {
@@ -1,3 +1,5 @@
+package movingmaze.cli;
+
 /**
  * Class used to create Position objects that store the information about the location of a tile in the maze, such as its row and column
  * and the x and y coordinate of its location on the GUI window.
@@ -1,3 +1,5 @@
+package movingmaze.cli;
+
 /**
  * Class used to create slidingPoint objects that store the information about the location of the slidingPoints of the maze, such as  the row and column they refer
  * to in the TileMaze and the x and y coordinate of its location on the GUI window, as well as the direction to slide the floating tile in when it is clicked.
@@ -25,6 +25,8 @@
  *
  ******************************************************************************/
 
+package movingmaze.cli;
+
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Component;
@@ -61,8 +63,10 @@ import java.net.MalformedURLException;
 import java.net.URL;
 
 import java.util.LinkedList;
+import java.util.List;
 import java.util.TreeSet;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import javax.imageio.ImageIO;
 
 import javax.swing.ImageIcon;
@@ -646,6 +650,11 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
     // set of key codes currently pressed down
     private static TreeSet<Integer> keysDown;
 
+    // listeners that are told about every key and mouse event, after StdDraw has updated its own state
+    private static final List<KeyListener> keyListeners = new CopyOnWriteArrayList<KeyListener>();
+    private static final List<MouseListener> mouseListeners = new CopyOnWriteArrayList<MouseListener>();
+    private static final List<MouseMotionListener> mouseMotionListeners = new CopyOnWriteArrayList<MouseMotionListener>();
+
     // singleton pattern: client can't instantiate
     private StdDraw() { }
 
@@ -1589,6 +1598,46 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
     }
 
 
+    /**
+     * Draws an image that is already in memory centered at (<em>x</em>, <em>y</em>),
+     * rescaled to the specified bounding box. Unlike the other {@code picture} methods,
+     * no file is read, so this can be used to draw images that the client creates itself,
+     * such as cached sprites.
+     *
+     * @param  x the center <em>x</em>-coordinate of the image
+     * @param  y the center <em>y</em>-coordinate of the image
+     * @param  image the image to draw
+     * @param  scaledWidth the width of the scaled image (in screen coordinates)
+     * @param  scaledHeight the height of the scaled image (in screen coordinates)
+     * @throws IllegalArgumentException if either {@code scaledWidth}
+     *         or {@code scaledHeight} is negative
+     * @throws IllegalArgumentException if {@code x} or {@code y} is either NaN or infinite
+     * @throws IllegalArgumentException if {@code image} is {@code null}
+     */
+    public static void picture(double x, double y, Image image, double scaledWidth, double scaledHeight) {
+        validate(x, "x");
+        validate(y, "y");
+        validate(scaledWidth, "scaled width");
+        validate(scaledHeight, "scaled height");
+        validateNotNull(image, "image");
+        validateNonnegative(scaledWidth, "scaled width");
+        validateNonnegative(scaledHeight, "scaled height");
+
+        double xs = scaleX(x);
+        double ys = scaleY(y);
+        double ws = factorX(scaledWidth);
+        double hs = factorY(scaledHeight);
+        if (ws <= 1 && hs <= 1) pixel(x, y);
+        else {
+            offscreen.drawImage(image, (int) Math.round(xs - ws/2.0),
+                                       (int) Math.round(ys - hs/2.0),
+                                       (int) Math.round(ws),
+                                       (int) Math.round(hs), null);
+        }
+        draw();
+    }
+
+
     /**
      * Draws the specified image centered at (<em>x</em>, <em>y</em>), rotated
      * given number of degrees, and rescaled to the specified bounding box.
@@ -1900,7 +1949,7 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
      */
     @Override
     public void mouseClicked(MouseEvent e) {
-        // this body is intentionally left empty
+        for (MouseListener listener : mouseListeners) listener.mouseClicked(e);
     }
 
     /**
@@ -1908,7 +1957,7 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
      */
     @Override
     public void mouseEntered(MouseEvent e) {
-        // this body is intentionally left empty
+        for (MouseListener listener : mouseListeners) listener.mouseEntered(e);
     }
 
     /**
@@ -1916,7 +1965,7 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
      */
     @Override
     public void mouseExited(MouseEvent e) {
-        // this body is intentionally left empty
+        for (MouseListener listener : mouseListeners) listener.mouseExited(e);
     }
 
     /**
@@ -1929,6 +1978,7 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
             mouseY = StdDraw.userY(e.getY());
             isMousePressed = true;
         }
+        for (MouseListener listener : mouseListeners) listener.mousePressed(e);
     }
 
     /**
@@ -1939,6 +1989,7 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
         synchronized (mouseLock) {
             isMousePressed = false;
         }
+        for (MouseListener listener : mouseListeners) listener.mouseReleased(e);
     }
 
     /**
@@ -1950,6 +2001,7 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
             mouseX = StdDraw.userX(e.getX());
             mouseY = StdDraw.userY(e.getY());
         }
+        for (MouseMotionListener listener : mouseMotionListeners) listener.mouseDragged(e);
     }
 
     /**
@@ -1961,9 +2013,32 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
             mouseX = StdDraw.userX(e.getX());
             mouseY = StdDraw.userY(e.getY());
         }
+        for (MouseMotionListener listener : mouseMotionListeners) listener.mouseMoved(e);
     }
 
 
+    /**
+     * Registers a listener that is told about every mouse button event on the canvas,
+     * after the state returned by {@link #isMousePressed()}, {@link #mouseX()} and {@link #mouseY()} has been updated.
+     * The listener is called on the event dispatch thread.
+     *
+     * @param  listener the listener to add
+     */
+    public static void addMouseListener(MouseListener listener) {
+        mouseListeners.add(listener);
+    }
+
+    /**
+     * Registers a listener that is told about every mouse movement on the canvas,
+     * after the state returned by {@link #mouseX()} and {@link #mouseY()} has been updated.
+     * The listener is called on the event dispatch thread.
+     *
+     * @param  listener the listener to add
+     */
+    public static void addMouseMotionListener(MouseMotionListener listener) {
+        mouseMotionListeners.add(listener);
+    }
+
    /***************************************************************************
     *  Keyboard interactions.
     ***************************************************************************/
@@ -2029,6 +2104,7 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
         synchronized (keyLock) {
             keysTyped.addFirst(e.getKeyChar());
         }
+        for (KeyListener listener : keyListeners) listener.keyTyped(e);
     }
 
     /**
@@ -2039,6 +2115,7 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
         synchronized (keyLock) {
             keysDown.add(e.getKeyCode());
         }
+        for (KeyListener listener : keyListeners) listener.keyPressed(e);
     }
 
     /**
@@ -2049,6 +2126,19 @@ public final class StdDraw implements ActionListener, MouseListener, MouseMotion
         synchronized (keyLock) {
             keysDown.remove(e.getKeyCode());
         }
+        for (KeyListener listener : keyListeners) listener.keyReleased(e);
+    }
+
+
+    /**
+     * Registers a listener that is told about every key event,
+     * after the state returned by {@link #isKeyPressed(int)} and {@link #nextKeyTyped()} has been updated.
+     * The listener is called on the event dispatch thread.
+     *
+     * @param  listener the listener to add
+     */
+    public static void addKeyListener(KeyListener listener) {
+        keyListeners.add(listener);
     }
 
 
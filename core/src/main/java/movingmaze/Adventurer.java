@@ -1,45 +1,39 @@
+package movingmaze;
+
 /**
  * A class used by the MovingMaze class to store information specific to each adventurer in the game.
  * The class also provides methods to access the instance variables of the adventurer object, and change some of its values but not its {@code color },
  * {@code startingRow} or {@code startingCol} .
+ * The values themselves are kept in an {@code AdventurerTable} together with those of the other adventurers of the game, and an Adventurer
+ * object is the handle to its entry in the table.
  * @author Philip de Bruyn
- * @see MovingMaze
+ * @see GameState
+ * @see AdventurerTable
  */
 public class Adventurer {
 
-    private final char color;
-    private int currentRow;
-    private int currentCol;
-
-    private int numRelicCollected;
-
-    private final int startingRow;
-    private final int startingCol;
+    private final AdventurerTable table; // the table that holds the values of this adventurer
+    private final int index; // the entry of this adventurer in table
 
 
     /**
-     * A constructor method used to create an Adventurer object. It takes in the starting {@code col } , {@code row} and {@code column} .
-     * @param col The color of the adventurer as {@code Char} .
-     * @param row the starting row of the adventurer as an {@code Integer} .
-     * @param column the starting column of the adventurer as an {@code Integer} .
+     * A constructor method used to create the handle of an entry of an {@code AdventurerTable}. Adventurers are created by
+     * {@link TileMaze#createAdventurer(char, int, int)}, which adds their values to the table of the maze.
+     * @param table the table that holds the values of the adventurer.
+     * @param index the entry of the adventurer in the table.
      */
-    public Adventurer( char col,int row, int column) {
-        color = col; // get the color of the adventurer
-
-        startingRow = row; // get starting row , this is used to identify is a player has won or not
-        startingCol = column; // get starting column
-
-        currentRow = row;
-        currentCol = column;
-
-
-
-        numRelicCollected = 0;
-
-
-
-
+    Adventurer(AdventurerTable table, int index) {
+        this.table = table;
+        this.index = index;
+    }
 
+    /**
+     * An instance method that returns the index of the adventurer in its table, which is its position in the order of play and its bit in the
+     * occupancy mask of a {@code Tile}.
+     * @return the index as an {@code Integer} .
+     */
+    public int getIndex() {
+        return index;
     }
 
     /**
@@ -47,7 +41,7 @@ public class Adventurer {
      * @return the current row as an {@code Integer} .
      */
     public int getCurrentRow() {
-        return  currentRow;
+        return table.rows[index];
     }
 
     /**
@@ -55,7 +49,7 @@ public class Adventurer {
      * @param row the new row of the adventurers position as an {@code Integer} .
      */
     public void setCurrentRow(int row) {
-        currentRow = row;
+        table.rows[index] = row;
     }
 
     /**
@@ -63,7 +57,7 @@ public class Adventurer {
      * @param col the new column of the adventurers position as an {@code Integer} .
      */
     public void setCurrentCol(int col) {
-        currentCol = col;
+        table.cols[index] = col;
     }
 
     /**
@@ -71,7 +65,7 @@ public class Adventurer {
      * @return the current column of the adventurer as an {@code Integer} .
      */
     public int getCurrentCol() {
-        return currentCol;
+        return table.cols[index];
     }
 
     /**
@@ -79,7 +73,7 @@ public class Adventurer {
      * @return returns the current adventurers color as a {@code Char} in Uppercase.
      */
     public char getColor() {
-        return color;
+        return table.colors[index];
     }
 
     /**
@@ -87,6 +81,7 @@ public class Adventurer {
      * @return a {@code String} containing the color of the adventurer as a full word with a Capital letter
      */
     public String getColorString() {
+        char color = getColor();
         switch(color) {
 
             case 'G' : return "Green";
@@ -94,7 +89,7 @@ public class Adventurer {
             case 'R' : return "Red";
             case 'B' : return "Blue";
         }
-        return "No color";
+        return "Adventurer " + color; // the colours after the first four have no names
     }
 
     /**
@@ -103,14 +98,14 @@ public class Adventurer {
      * @see Relic for more information about Relics
      */
     public int getNumRelicCollected() {
-        return numRelicCollected;
+        return table.relicsCollected[index];
     }
 
     /**
      * An instance method that increases the number of relics collected by the adventurer by one.
      */
     public void incNumRelicCollected() {
-        numRelicCollected++;
+        table.relicsCollected[index]++;
     }
 
     /**
@@ -118,7 +113,7 @@ public class Adventurer {
      * @return an {@code Integer} that represents the starting row of the adventurers starting position on the board.
      */
     public int getStartingRow() {
-        return startingRow;
+        return table.startingRows[index];
     }
 
     /**
@@ -126,6 +121,6 @@ public class Adventurer {
      * @return an {@code Integer} that represents the starting Column of the adventurers starting position on the board.
      */
     public int getStartingCol() {
-        return startingCol;
+        return table.startingCols[index];
     }
 }
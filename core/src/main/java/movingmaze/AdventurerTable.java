@@ -0,0 +1,119 @@
+package movingmaze;
+
+/**
+ * The AdventurerTable class stores the state of the adventurers of a game in parallel arrays, one array for each field, indexed by the
+ * order in which the adventurers were added. An {@code Adventurer} object is a handle to one entry of a table, so the positions and scores of
+ * all adventurers lie together in a few small arrays however many adventurers there are.
+ * Each {@code TileMaze} has one table, sized for the number of adventurers of its game, and adventurers are created straight in it.
+ * The index of an adventurer in that table is also its bit in the occupancy mask of a {@code Tile}.
+ * @author Philip de Bruyn
+ * @see Adventurer
+ * @see TileMaze#createAdventurer(char, int, int)
+ */
+public class AdventurerTable {
+
+    public static final int MIN_ADVENTURERS = 2;
+    public static final int MAX_ADVENTURERS = 64; // one bit of a tile's occupancy mask for each adventurer
+
+    // colour of each adventurer in the order of play. The first four are the colours used by board files, the rest only appear on
+    // generated boards. The lower case of every colour is a different relic colour, and none of them is 'x', which marks a tile without a relic
+    private static final String COLORS = "GYRBCMOPWKLNTVADEFHIJQSUZ0123456789!#$%&*+-=?@^~<>()[]{}/|;:,._'";
+    private static final String RELIC_COLORS = COLORS.toLowerCase();
+
+    // the fields of every adventurer, read and written by their Adventurer handles
+    private final Adventurer[] adventurers;
+    final char[] colors;
+    final int[] rows;
+    final int[] cols;
+    final int[] relicsCollected;
+    final int[] startingRows;
+    final int[] startingCols;
+    private int size;
+
+    /**
+     * Creates an empty table.
+     * @param capacity the largest number of adventurers the table can hold, from 1 to {@link #MAX_ADVENTURERS}.
+     * @throws IllegalArgumentException if the capacity is out of range.
+     */
+    public AdventurerTable(int capacity) {
+        if (capacity < 1 || capacity > MAX_ADVENTURERS) {
+            throw new IllegalArgumentException("a table holds 1 to " + MAX_ADVENTURERS + " adventurers, not " + capacity);
+        }
+        adventurers = new Adventurer[capacity];
+        colors = new char[capacity];
+        rows = new int[capacity];
+        cols = new int[capacity];
+        relicsCollected = new int[capacity];
+        startingRows = new int[capacity];
+        startingCols = new int[capacity];
+    }
+
+    /**
+     * Returns the colour of the adventurer that plays in the given position, for games with more than four adventurers.
+     * @param index the position in the order of play, from 0 to {@link #MAX_ADVENTURERS} - 1.
+     * @return the colour as an upper case {@code char} where it is a letter.
+     */
+    public static char colorOf(int index) {
+        return COLORS.charAt(index);
+    }
+
+    /**
+     * Returns the position in the order of play of the adventurer that collects relics of a colour.
+     * @param relicColor the lower case colour of a relic.
+     * @return the position, from 0 to {@link #MAX_ADVENTURERS} - 1, or -1 if no adventurer has that colour.
+     */
+    public static int indexOfRelicColor(char relicColor) {
+        return RELIC_COLORS.indexOf(relicColor);
+    }
+
+    /**
+     * Adds a new adventurer to the table.
+     * @param color the colour of the adventurer.
+     * @param row the starting row of the adventurer.
+     * @param col the starting column of the adventurer.
+     * @return the {@code Adventurer} handle of the new entry.
+     * @throws IllegalStateException if the table is full.
+     */
+    Adventurer add(char color, int row, int col) {
+        if (size == adventurers.length) {
+            throw new IllegalStateException("at most " + adventurers.length + " adventurers fit in this table");
+        }
+        int index = size++;
+        Adventurer a = new Adventurer(this, index);
+        adventurers[index] = a;
+        colors[index] = color;
+        rows[index] = row;
+        cols[index] = col;
+        startingRows[index] = row;
+        startingCols[index] = col;
+        return a;
+    }
+
+    /**
+     * Returns the number of adventurers in the table.
+     * @return the number of adventurers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the adventurer at an index.
+     * @param index the index of the adventurer.
+     * @return the {@code Adventurer} handle.
+     */
+    public Adventurer get(int index) {
+        return adventurers[index];
+    }
+
+    /**
+     * Sets the position of an adventurer.
+     * @param index the index of the adventurer.
+     * @param row the new row.
+     * @param col the new column.
+     */
+    public void setPosition(int index, int row, int col) {
+        rows[index] = row;
+        cols[index] = col;
+    }
+}
@@ -0,0 +1,316 @@
+package movingmaze;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Scanner;
+
+/**
+ * The BoardFile class holds the contents of a game board file: the size of the maze, the number of relics to collect and the tile encodings.
+ * A board is loaded once and can then be used to create any number of independent games, as every game creates its own tiles from the encodings.
+ * <p>
+ * Boards can be stored in the text format or in a compact binary format. A binary file starts with the bytes "MMB1", followed by the width,
+ * height and number of relics as 4-byte integers. Then comes one byte per tile, the floating tile first and then the maze row by row, holding the
+ * openings in the low 4 bits and {@code 0x10} if the tile has a relic. Last comes a colour byte and a number byte for every relic, in the same order
+ * as the tiles. Binary files are memory-mapped when they are loaded, and no {@code String} is made for any tile.
+ * <p>
+ * The tiles of every game share the {@code TileType} of each position, which is looked up once when the board is loaded, so a game only
+ * allocates the per-game state of its tiles.
+ * @author Philip de Bruyn
+ * @see GameEngine
+ */
+public class BoardFile {
+
+    private final int boardWidth;
+    private final int boardHeight;
+    private final int K;
+    private final int[] tileCodes; // the floating tile followed by the maze tiles row by row, see codeOf(String)
+    private final TileType[] tileTypes; // the shared type of each tile code
+
+    private static final byte[] MAGIC = {'M', 'M', 'B', '1'}; // the first bytes of a binary board file
+    private static final int HAS_RELIC = 0x10;
+
+    /**
+     * Constructor for the BoardFile object.
+     * @param boardWidth the number of columns of the maze.
+     * @param boardHeight the number of rows of the maze.
+     * @param K the number of relics each adventurer must collect.
+     * @param encodedFloatingTile a {@code String} that encodes the floating tile's information.
+     * @param encodedStrings a 1D array that holds the encoded strings for the tiles of the maze, row by row.
+     */
+    public BoardFile(int boardWidth, int boardHeight, int K, String encodedFloatingTile, String[] encodedStrings) {
+        this(boardWidth, boardHeight, K, codesOf(encodedFloatingTile, encodedStrings));
+    }
+
+    /**
+     * Constructor for a BoardFile from the codes of its tiles.
+     * @param boardWidth the number of columns of the maze.
+     * @param boardHeight the number of rows of the maze.
+     * @param K the number of relics each adventurer must collect.
+     * @param tileCodes the codes of the floating tile followed by the maze tiles row by row.
+     */
+    private BoardFile(int boardWidth, int boardHeight, int K, int[] tileCodes) {
+        this.boardWidth = boardWidth;
+        this.boardHeight = boardHeight;
+        this.K = K;
+        this.tileCodes = tileCodes;
+        tileTypes = new TileType[tileCodes.length];
+        for (int i = 0; i < tileCodes.length; i++) {
+            tileTypes[i] = TileType.of(tileCodes[i]);
+        }
+    }
+
+    /**
+     * Reads a game board file in either the text or the binary format. The format is recognised from the first bytes of the file.
+     * @param fileName the name of the game board file.
+     * @return a {@code BoardFile} holding the contents of the file.
+     * @throws FileNotFoundException if the file does not exist.
+     * @throws IOException if the file cannot be read or is not a valid binary board.
+     */
+    public static BoardFile load(String fileName) throws IOException {
+        if (!new File(fileName).exists()) {
+            throw new FileNotFoundException(fileName);
+        }
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            if (channel.size() >= MAGIC.length) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (hasMagic(buffer)) {
+                    return readBinary(buffer);
+                }
+            }
+        }
+        return loadText(fileName);
+    }
+
+    /**
+     * Reads a game board file in the text format: the width, height, number of relics and floating tile, followed by the maze tiles row by row.
+     * @param fileName the name of the game board file.
+     * @return a {@code BoardFile} holding the contents of the file.
+     * @throws FileNotFoundException if the file does not exist.
+     */
+    public static BoardFile loadText(String fileName) throws FileNotFoundException {
+        Scanner scanner = new Scanner(new File(fileName)); // create a scanner and read in my gameboard file
+        int boardWidth = scanner.nextInt(); // get board width
+        int boardHeight = scanner.nextInt();
+        String[] encodedStrings = new String[boardHeight * boardWidth]; // stores all encoded strings for the tile maze, and does not include the floating tile
+        int K = scanner.nextInt();
+        String encodedFloatingTile = scanner.next();
+        int iCount = 0;
+        while (scanner.hasNext()) {
+
+            encodedStrings[iCount] = scanner.next();
+            iCount++;
+
+        }
+        scanner.close();
+        return new BoardFile(boardWidth, boardHeight, K, encodedFloatingTile, encodedStrings);
+    }
+
+    /**
+     * Writes this board to a file in the binary format, so that it can be loaded faster later on.
+     * @param fileName the name of the binary file to write.
+     * @throws IOException if the file cannot be written.
+     */
+    public void saveBinary(String fileName) throws IOException {
+        int numRelics = 0;
+        for (int code : tileCodes) {
+            if (code >>> 8 != 0) {
+                numRelics++;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(MAGIC.length + 12 + tileCodes.length + 2 * numRelics);
+        buffer.put(MAGIC).putInt(boardWidth).putInt(boardHeight).putInt(K);
+        for (int code : tileCodes) {
+            buffer.put((byte) ((code & 0xF) | (code >>> 8 != 0 ? HAS_RELIC : 0)));
+        }
+        for (int code : tileCodes) {
+            if (code >>> 8 != 0) {
+                buffer.put((byte) (code >>> 8)).put((byte) ((code >>> 4) & 0xF));
+            }
+        }
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Creates a new game on this board. Each game has its own tiles, so games never share any mutable state.
+     * @return a new {@code GameEngine}.
+     */
+    public GameEngine newGame() {
+        return new GameEngine(boardWidth, boardHeight, K, createFloatingTile(), createMazeTiles());
+    }
+
+    /**
+     * Creates a new game on this board with any number of adventurers. Only Green, Yellow, Red and Blue have relics on a board file,
+     * so any further adventurers can move and slide but never win.
+     * @param numAdventurers the number of adventurers, from {@link AdventurerTable#MIN_ADVENTURERS} to {@link AdventurerTable#MAX_ADVENTURERS}.
+     * @return a new {@code GameEngine}.
+     * @see GameEngine#GameEngine(int, int, int, Tile, Tile[], int)
+     */
+    public GameEngine newGame(int numAdventurers) {
+        return new GameEngine(boardWidth, boardHeight, K, createFloatingTile(), createMazeTiles(), numAdventurers);
+    }
+
+    /**
+     * Creates a new {@code TileMaze} holding the tiles of this board.
+     * @return a new {@code TileMaze}.
+     */
+    public TileMaze createMaze() {
+        return new TileMaze(boardWidth, boardHeight, createMazeTiles());
+    }
+
+    /**
+     * Creates a new floating tile for this board.
+     * @return a new {@code Tile}.
+     */
+    public Tile createFloatingTile() {
+        return new Tile(tileTypes[0]);
+    }
+
+    /**
+     * Returns the number of columns of the maze.
+     * @return the board width.
+     */
+    public int getBoardWidth() {
+        return boardWidth;
+    }
+
+    /**
+     * Returns the number of rows of the maze.
+     * @return the board height.
+     */
+    public int getBoardHeight() {
+        return boardHeight;
+    }
+
+    /**
+     * Returns the number of relics each adventurer must collect.
+     * @return the number of relics.
+     */
+    public int getK() {
+        return K;
+    }
+
+    /**
+     * Creates new tiles for the maze of this board.
+     * @return a 1D array of tiles, row by row.
+     */
+    private Tile[] createMazeTiles() {
+        Tile[] tiles = new Tile[tileCodes.length - 1];
+        for (int i = 0; i < tiles.length; i++) {
+            tiles[i] = new Tile(tileTypes[i + 1]);
+        }
+        return tiles;
+    }
+
+    /**
+     * Packs the tile encodings of a text board into tile codes.
+     * @param encodedFloatingTile a {@code String} that encodes the floating tile's information.
+     * @param encodedStrings a 1D array that holds the encoded strings for the tiles of the maze, row by row.
+     * @return the codes of the floating tile followed by the maze tiles row by row.
+     */
+    private static int[] codesOf(String encodedFloatingTile, String[] encodedStrings) {
+        int[] tileCodes = new int[encodedStrings.length + 1];
+        tileCodes[0] = codeOf(encodedFloatingTile);
+        for (int i = 0; i < encodedStrings.length; i++) {
+            tileCodes[i + 1] = codeOf(encodedStrings[i]);
+        }
+        return tileCodes;
+    }
+
+    /**
+     * Packs a tile encoding such as "0110r2" into one number: the openings in bits 0 to 3, the relic number in bits 4 to 7 and the relic colour
+     * character from bit 8 on, which is 0 for a tile without a relic.
+     * @param tileEncoding a {@code String} of length 6 that holds the information to create a tile.
+     * @return the code of the tile.
+     */
+    private static int codeOf(String tileEncoding) {
+        int code = 0;
+        for (int i = 0; i < 4; i++) {
+            if (tileEncoding.charAt(i) == '1') {
+                code |= 1 << i;
+            }
+        }
+        if (tileEncoding.charAt(4) != 'x') {
+            code |= (tileEncoding.charAt(5) - '0') << 4 | tileEncoding.charAt(4) << 8;
+        }
+        return code;
+    }
+
+    /**
+     * Checks whether a buffer starts with the bytes of a binary board file.
+     * @param buffer the contents of the file.
+     * @return {@code true} if the file is in the binary format.
+     */
+    private static boolean hasMagic(ByteBuffer buffer) {
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(i) != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads a board from the contents of a binary file.
+     * @param buffer the contents of the file, starting with the magic bytes.
+     * @return a {@code BoardFile} holding the contents of the file.
+     * @throws IOException if the header is malformed ( a size below 1, a negative number of relics or a tile count that does not fit in an
+     * {@code int} ) or the file is shorter than its header says.
+     */
+    private static BoardFile readBinary(ByteBuffer buffer) throws IOException {
+        buffer.position(MAGIC.length);
+        if (buffer.remaining() < 12) {
+            throw new IOException("The binary board file is too short.");
+        }
+        int boardWidth = buffer.getInt();
+        int boardHeight = buffer.getInt();
+        int K = buffer.getInt();
+        if (boardWidth < 1 || boardHeight < 1 || K < 0) {
+            throw new IOException("The binary board file has a malformed header.");
+        }
+        int numTiles;
+        try {
+            numTiles = Math.addExact(Math.multiplyExact(boardWidth, boardHeight), 1); // the maze tiles and the floating tile
+        } catch (ArithmeticException e) {
+            throw new IOException("The binary board file has a malformed header.", e);
+        }
+        if (buffer.remaining() < numTiles) {
+            throw new IOException("The binary board file is too short.");
+        }
+        int[] tileCodes = new int[numTiles];
+
+        int numRelics = 0;
+        for (int i = 0; i < tileCodes.length; i++) {
+            int b = buffer.get();
+            tileCodes[i] = b & 0xF;
+            if ((b & HAS_RELIC) != 0) {
+                tileCodes[i] |= HAS_RELIC; // marks the tile until its relic is read
+                numRelics++;
+            }
+        }
+        if (buffer.remaining() < 2 * numRelics) {
+            throw new IOException("The binary board file is too short.");
+        }
+        for (int i = 0; i < tileCodes.length; i++) {
+            if ((tileCodes[i] & HAS_RELIC) != 0) {
+                int color = buffer.get() & 0xFF;
+                int num = buffer.get() & 0xF;
+                tileCodes[i] = (tileCodes[i] & 0xF) | num << 4 | color << 8;
+            }
+        }
+        return new BoardFile(boardWidth, boardHeight, K, tileCodes);
+    }
+}
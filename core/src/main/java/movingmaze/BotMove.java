@@ -0,0 +1,61 @@
+package movingmaze;
+
+/**
+ * Class used to create BotMove objects that hold one whole turn chosen by an automated player: how often to rotate the floating tile clockwise,
+ * where to slide it in, and which tile to move to afterwards.
+ * @author Philip de Bruyn
+ * @see SearchBot
+ */
+public class BotMove {
+
+    private final int rotations;
+    private final String slidingIndicator;
+    private final int row;
+    private final int col;
+
+    /**
+     * Constructor for the BotMove object.
+     * @param rotations the number of clockwise rotations of the floating tile, from 0 to 3.
+     * @param slidingIndicator the side and index to slide the floating tile into.
+     * @param row the row of the tile to move to after the slide.
+     * @param col the column of the tile to move to after the slide.
+     */
+    public BotMove(int rotations, String slidingIndicator, int row, int col) {
+        this.rotations = rotations;
+        this.slidingIndicator = slidingIndicator;
+        this.row = row;
+        this.col = col;
+    }
+
+    /**
+     * Returns the number of clockwise rotations of the floating tile.
+     * @return the number of rotations, from 0 to 3.
+     */
+    public int getRotations() {
+        return rotations;
+    }
+
+    /**
+     * Returns where to slide the floating tile in.
+     * @return a sliding indicator such as "n2".
+     */
+    public String getSlidingIndicator() {
+        return slidingIndicator;
+    }
+
+    /**
+     * Returns the row of the tile to move to.
+     * @return the destination row.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Returns the column of the tile to move to.
+     * @return the destination column.
+     */
+    public int getCol() {
+        return col;
+    }
+}
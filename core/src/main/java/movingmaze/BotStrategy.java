@@ -0,0 +1,19 @@
+package movingmaze;
+
+import java.util.Random;
+
+/**
+ * Interface for automated players. A strategy plays one whole turn for the current adventurer of a {@code GameEngine}:
+ * it may rotate the floating tile, must slide it in, and may then move before ending the turn.
+ * @author Philip de Bruyn
+ * @see Tournament
+ */
+public interface BotStrategy {
+
+    /**
+     * Plays one turn for the current adventurer.
+     * @param engine the {@code GameEngine} of the game being played.
+     * @param random the random number generator of this game, so that games can be replayed from their seed.
+     */
+    void playTurn(GameEngine engine, Random random);
+}
@@ -0,0 +1,121 @@
+package movingmaze;
+
+/**
+ * The ComponentLabeller class labels every tile of a {@code PackedMaze} with the id of the connected region it belongs to.
+ * The whole maze is labelled in one scan with a union-find, after which asking whether one tile can be reached from another is a
+ * comparison of two labels. The labels are kept until the version of the maze changes.
+ * @author Philip de Bruyn
+ * @see PackedMaze
+ * @see TileMaze#slideIntoMaze(String, Tile)
+ */
+public class ComponentLabeller {
+
+    private int[] labels = new int[0]; // union-find parent of each tile, and its component id once labelling is done
+    private int numCols;
+    private PackedMaze labelledBoard; // the maze the labels belong to
+    private int labelledVersion; // the version of that maze when it was labelled
+
+    /**
+     * Labels every tile of the maze with its connected component id, unless the labels already match this version of the maze.
+     * @param board the {@code PackedMaze} to label
+     */
+    public void label(PackedMaze board) {
+        if (isUpToDate(board)) {
+            return;
+        }
+
+        int numRows = board.getNumRows();
+        numCols = board.getNumCols();
+        int numCells = numRows * numCols;
+        if (labels.length < numCells) {
+            labels = new int[numCells];
+        }
+        for (int i = 0; i < numCells; i++) {
+            labels[i] = i;
+        }
+
+        // join every tile to its east and south neighbours when the two tiles open onto each other
+        for (int iRow = 1; iRow <= numRows; iRow++) {
+            for (int iCol = 1; iCol <= numCols; iCol++) {
+                int cell = (iRow - 1) * numCols + (iCol - 1);
+                int openings = board.getOpenings(iRow, iCol);
+
+                if ((openings & PackedMaze.EAST) != 0 && iCol != numCols && (board.getOpenings(iRow, iCol + 1) & PackedMaze.WEST) != 0) {
+                    union(cell, cell + 1);
+                }
+                if ((openings & PackedMaze.SOUTH) != 0 && iRow != numRows && (board.getOpenings(iRow + 1, iCol) & PackedMaze.NORTH) != 0) {
+                    union(cell, cell + numCols);
+                }
+            }
+        }
+
+        // a root is always the smallest tile of its component, so one pass in order turns parents into component ids
+        for (int i = 0; i < numCells; i++) {
+            labels[i] = labels[labels[i]];
+        }
+
+        labelledBoard = board;
+        labelledVersion = board.getVersion();
+    }
+
+    /**
+     * Returns whether the labels were made for this version of the maze.
+     * @param board the {@code PackedMaze} to check
+     * @return {@code true} if no slide or other change has happened to {@code board} since it was labelled
+     */
+    public boolean isUpToDate(PackedMaze board) {
+        return board == labelledBoard && board.getVersion() == labelledVersion;
+    }
+
+    /**
+     * Returns the id of the connected component of the tile at the given row and column. Two tiles can be reached from each other
+     * if and only if they have the same id.
+     * @param row the row of the tile ( 1-indexed )
+     * @param col the column of the tile ( 1-indexed )
+     * @return the component id of the tile
+     */
+    public int getLabel(int row, int col) {
+        return labels[(row - 1) * numCols + (col - 1)];
+    }
+
+    /**
+     * Returns whether there is a path between two tiles.
+     * @param fromRow the row of the first tile ( 1-indexed )
+     * @param fromCol the column of the first tile ( 1-indexed )
+     * @param toRow the row of the second tile ( 1-indexed )
+     * @param toCol the column of the second tile ( 1-indexed )
+     * @return {@code true} if both tiles are in the same connected component
+     */
+    public boolean isConnected(int fromRow, int fromCol, int toRow, int toCol) {
+        return getLabel(fromRow, fromCol) == getLabel(toRow, toCol);
+    }
+
+    /**
+     * Finds the root of a tile's set, halving the path to the root along the way.
+     * @param cell the row-major index of the tile
+     * @return the root of the set
+     */
+    private int find(int cell) {
+        while (labels[cell] != cell) {
+            labels[cell] = labels[labels[cell]];
+            cell = labels[cell];
+        }
+        return cell;
+    }
+
+    /**
+     * Joins the sets of two tiles, keeping the smaller index as the root.
+     * @param a the row-major index of the first tile
+     * @param b the row-major index of the second tile
+     */
+    private void union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA < rootB) {
+            labels[rootB] = rootA;
+        } else if (rootB < rootA) {
+            labels[rootA] = rootB;
+        }
+    }
+
+}
@@ -0,0 +1,311 @@
+package movingmaze;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The GameEngine class runs the rules of the moving maze game without any side effects. It never prints, draws or closes the program.
+ * Every action returns the list of {@code GameEvent} objects it caused, and the same events are passed to every subscribed
+ * {@code GameEventListener}, such as a {@code TextRenderer}. This lets many games be played one after the other, or at the same time, in one program.
+ * @author Philip de Bruyn
+ * @see GameState
+ * @see TileMaze
+ */
+public class GameEngine {
+
+    private final TileMaze tileMaze;
+    private final GameState gameState;
+    private Tile floatingTile;
+    private final List<GameEventListener> listeners = new ArrayList<>();
+
+    /**
+     * Creates a new game from the information in a game board file. The four adventurers start in the corners of the maze,
+     * in the same way as {@code MovingMaze.main}.
+     * @param boardWidth the number of columns of the maze.
+     * @param boardHeight the number of rows of the maze.
+     * @param K the number of relics each adventurer must collect.
+     * @param encodedFloatingTile a {@code String} that encodes the floating tile's information.
+     * @param encodedStrings a 1D array that holds the encoded strings for the tiles of the maze, row by row.
+     */
+    public GameEngine(int boardWidth, int boardHeight, int K, String encodedFloatingTile, String[] encodedStrings) {
+        this(boardWidth, boardHeight, K, new Tile(encodedFloatingTile), TileMaze.createTiles(encodedStrings));
+    }
+
+    /**
+     * Creates a new game from tiles that have already been created. The tiles become part of this game and must not be used by any other game.
+     * @param boardWidth the number of columns of the maze.
+     * @param boardHeight the number of rows of the maze.
+     * @param K the number of relics each adventurer must collect.
+     * @param floatingTile the floating tile.
+     * @param tiles a 1D array that holds the tiles of the maze, row by row.
+     */
+    public GameEngine(int boardWidth, int boardHeight, int K, Tile floatingTile, Tile[] tiles) {
+        this(boardWidth, boardHeight, K, floatingTile, tiles, 4);
+    }
+
+    /**
+     * Creates a new game with any number of adventurers from tiles that have already been created. The first four adventurers are Green, Yellow,
+     * Red and Blue and start in the corners of the maze. Any further adventurers take their colours from {@link AdventurerTable#colorOf(int)}
+     * and start spread evenly over the maze, row by row.
+     * @param boardWidth the number of columns of the maze.
+     * @param boardHeight the number of rows of the maze.
+     * @param K the number of relics each adventurer must collect.
+     * @param floatingTile the floating tile.
+     * @param tiles a 1D array that holds the tiles of the maze, row by row.
+     * @param numAdventurers the number of adventurers, from {@link AdventurerTable#MIN_ADVENTURERS} to {@link AdventurerTable#MAX_ADVENTURERS}.
+     * @throws IllegalArgumentException if the number of adventurers is out of range.
+     */
+    public GameEngine(int boardWidth, int boardHeight, int K, Tile floatingTile, Tile[] tiles, int numAdventurers) {
+        if (numAdventurers < AdventurerTable.MIN_ADVENTURERS || numAdventurers > AdventurerTable.MAX_ADVENTURERS) {
+            throw new IllegalArgumentException("a game needs " + AdventurerTable.MIN_ADVENTURERS + " to " + AdventurerTable.MAX_ADVENTURERS
+                    + " adventurers, not " + numAdventurers);
+        }
+        tileMaze = new TileMaze(boardWidth, boardHeight, tiles, numAdventurers);
+        int[] cornerRows = {1, 1, boardHeight, boardHeight};
+        int[] cornerCols = {1, boardWidth, 1, boardWidth};
+        int numCells = boardWidth * boardHeight;
+        Adventurer[] adventurers = new Adventurer[numAdventurers];
+        for (int i = 0; i < numAdventurers; i++) { // create adventurers and initial locations, in the order they play
+            if (i < 4) {
+                adventurers[i] = tileMaze.createAdventurer(AdventurerTable.colorOf(i), cornerRows[i], cornerCols[i]);
+            } else {
+                int extra = numAdventurers - 4;
+                int cell = (int) ((2L * (i - 4) + 1) * numCells / (2L * extra)); // row-major index in the middle of an equal share of the cells
+                adventurers[i] = tileMaze.createAdventurer(AdventurerTable.colorOf(i), cell / boardWidth + 1, cell % boardWidth + 1);
+            }
+        }
+
+        this.floatingTile = floatingTile;
+        gameState = new GameState(adventurers, K);
+        gameState.setTileMaze(tileMaze);
+        gameState.enableHashing(floatingTile);
+    }
+
+    /**
+     * Subscribes a listener to every event produced by this engine.
+     * @param listener the {@code GameEventListener} to subscribe.
+     */
+    public void addListener(GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Rotates the floating tile. This is only allowed before the current adventurer has slid the floating tile in.
+     * @param clockwise {@code true} to rotate clockwise and {@code false} to rotate counter-clockwise.
+     * @return the events caused by the rotation.
+     */
+    public List<GameEvent> applyRotate(boolean clockwise) {
+        List<GameEvent> events = new ArrayList<>();
+        if (isOver() || gameState.isMoving()) {
+            events.add(reject("cannot rotate now"));
+            return publish(events);
+        }
+        tileMaze.rotateFloatingTile(floatingTile, clockwise);
+        events.add(new GameEvent(GameEvent.Type.ROTATED, gameState.getCurrentTurn(), 0, 0, clockwise ? "r" : "l"));
+        return publish(events);
+    }
+
+    /**
+     * Slides the floating tile into the maze and collects any relics the adventurers on the moved tiles can pick up. Afterwards the current
+     * adventurer may move.
+     * @param slidingIndicator a {@code String} that holds the side and index that the floating tile must be slid into.
+     * @return the events caused by the slide.
+     */
+    public List<GameEvent> applySlide(String slidingIndicator) {
+        List<GameEvent> events = new ArrayList<>();
+        if (isOver() || gameState.isMoving()) {
+            events.add(reject("cannot slide now"));
+            return publish(events);
+        }
+        if (!tileMaze.isLegalSlide(slidingIndicator, floatingTile)) {
+            events.add(reject("cannot slide into " + slidingIndicator));
+            return publish(events);
+        }
+
+        floatingTile = tileMaze.slideIntoMaze(slidingIndicator, floatingTile);
+        events.add(new GameEvent(GameEvent.Type.SLID, gameState.getCurrentTurn(), 0, 0, slidingIndicator));
+
+        for (Adventurer player : gameState.getAdventurers()) { // relics collected by a slide do not end the turn
+            if (gameState.collectRelicAfterSlide(player, tileMaze, floatingTile)) {
+                addCollectionEvents(events, player);
+            }
+        }
+        gameState.startMoving();
+        return publish(events);
+    }
+
+    /**
+     * Moves the current adventurer one tile in the given direction.
+     * @param dir a {@code Char} that dictates what direction the player wants to move in, one of 'n', 'e', 's' or 'w'.
+     * @return the events caused by the move.
+     */
+    public List<GameEvent> applyMove(char dir) {
+        List<GameEvent> events = new ArrayList<>();
+        if (isOver() || !gameState.isMoving()) {
+            events.add(reject("cannot move now"));
+            return publish(events);
+        }
+        if (!gameState.isValidPlayerMoveWithoutText(dir, tileMaze.getMaze())) {
+            events.add(reject("cannot move " + dir));
+            return publish(events);
+        }
+
+        gameState.movePlayerNoText(dir, tileMaze.getMaze());
+        afterMove(events, String.valueOf(dir));
+        return publish(events);
+    }
+
+    /**
+     * Moves the current adventurer straight to any tile they have a path to.
+     * @param row the row of the destination tile.
+     * @param col the column of the destination tile.
+     * @return the events caused by the move.
+     */
+    public List<GameEvent> applyTeleport(int row, int col) {
+        List<GameEvent> events = new ArrayList<>();
+        if (isOver() || !gameState.isMoving()) {
+            events.add(reject("cannot move now"));
+            return publish(events);
+        }
+        if (!gameState.isValidPath(col, row, tileMaze.getMaze())) {
+            events.add(reject("cannot move to " + col + "," + row));
+            return publish(events);
+        }
+
+        gameState.teleportPlayer(col, row, tileMaze.getMaze());
+        afterMove(events, "teleport");
+        return publish(events);
+    }
+
+    /**
+     * Ends the current adventurer's turn after they have slid the floating tile in.
+     * @return the events caused by ending the turn.
+     */
+    public List<GameEvent> endTurn() {
+        List<GameEvent> events = new ArrayList<>();
+        if (isOver() || !gameState.isMoving()) {
+            events.add(reject("cannot end the turn now"));
+            return publish(events);
+        }
+        finishTurn(events);
+        return publish(events);
+    }
+
+    /**
+     * Returns every sliding indicator the floating tile may currently be slid into.
+     * @return a list of sliding indicators such as "n2" or "w4".
+     * @see TileMaze#getLegalSlides(Tile)
+     */
+    public List<String> getLegalSlides() {
+        return tileMaze.getLegalSlides(floatingTile);
+    }
+
+    /**
+     * Returns the tile the adventurer is heading for: the tile holding their next relic, or their starting tile once they have all their relics.
+     * @param player an {@code Adventurer} object.
+     * @return an array holding the row and column of the target, or {@code null} if the next relic is on the floating tile.
+     * @see GameState#findTarget(Adventurer, Tile[][], Tile)
+     */
+    public int[] getTarget(Adventurer player) {
+        return gameState.findTarget(player, tileMaze.getMaze(), floatingTile);
+    }
+
+    /**
+     * Returns whether the game has been won.
+     * @return {@code true} if the game is over.
+     */
+    public boolean isOver() {
+        return !gameState.gameIsRunning;
+    }
+
+    /**
+     * Returns the maze of this game.
+     * @return the {@code TileMaze} of this game.
+     */
+    public TileMaze getTileMaze() {
+        return tileMaze;
+    }
+
+    /**
+     * Returns the state of this game.
+     * @return the {@code GameState} of this game.
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * Returns the current floating tile.
+     * @return the floating {@code Tile}.
+     */
+    public Tile getFloatingTile() {
+        return floatingTile;
+    }
+
+    /**
+     * Collects a relic on the tile the current adventurer moved to, which ends their turn, or ends the game if they have won.
+     * @param events the list the events are added to.
+     * @param detail the direction of the move, or "teleport".
+     */
+    private void afterMove(List<GameEvent> events, String detail) {
+        Adventurer player = gameState.getCurrentTurn();
+        events.add(new GameEvent(GameEvent.Type.MOVED, player, player.getCurrentRow(), player.getCurrentCol(), detail));
+
+        if (gameState.collectRelic(player, tileMaze.getMaze(), floatingTile)) {
+            addCollectionEvents(events, player);
+            finishTurn(events);
+            return;
+        }
+
+        if (gameState.ifWon()) { // if the player moved and is in a winning position, we end game
+            events.add(new GameEvent(GameEvent.Type.GAME_WON, player, player.getCurrentRow(), player.getCurrentCol(), ""));
+            gameState.stopGame();
+        }
+    }
+
+    /**
+     * Adds the events for a relic that was just collected.
+     * @param events the list the events are added to.
+     * @param player the {@code Adventurer} that collected the relic.
+     */
+    private void addCollectionEvents(List<GameEvent> events, Adventurer player) {
+        events.add(new GameEvent(GameEvent.Type.RELIC_COLLECTED, player, player.getCurrentRow(), player.getCurrentCol(), ""));
+        if (gameState.hasAllRelics(player)) {
+            events.add(new GameEvent(GameEvent.Type.ALL_RELICS_COLLECTED, player, player.getCurrentRow(), player.getCurrentCol(), ""));
+        }
+    }
+
+    /**
+     * Ends the current adventurer's turn and hands it to the next adventurer.
+     * @param events the list the events are added to.
+     */
+    private void finishTurn(List<GameEvent> events) {
+        events.add(new GameEvent(GameEvent.Type.TURN_ENDED, gameState.getCurrentTurn(), 0, 0, ""));
+        gameState.advanceTurn();
+        gameState.stopMoving();
+    }
+
+    /**
+     * Creates an event for an action that was not allowed.
+     * @param reason why the action was not allowed.
+     * @return the {@code GameEvent}.
+     */
+    private GameEvent reject(String reason) {
+        return new GameEvent(GameEvent.Type.REJECTED, gameState.getCurrentTurn(), 0, 0, reason);
+    }
+
+    /**
+     * Passes the events to every listener.
+     * @param events the events of one action.
+     * @return {@code events}
+     */
+    private List<GameEvent> publish(List<GameEvent> events) {
+        for (GameEventListener listener : listeners) {
+            for (GameEvent event : events) {
+                listener.onEvent(event);
+            }
+        }
+        return events;
+    }
+
+}
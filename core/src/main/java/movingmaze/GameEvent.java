@@ -0,0 +1,87 @@
+package movingmaze;
+
+/**
+ * Class used to create GameEvent objects that describe one thing that happened in a game run by the {@code GameEngine}, such as a slide,
+ * a move or a collected relic. Renderers subscribe to these events instead of the rules printing as they go.
+ * @author Philip de Bruyn
+ * @see GameEngine
+ * @see GameEventListener
+ */
+public class GameEvent {
+
+    /**
+     * The kinds of event that the {@code GameEngine} can report.
+     */
+    public enum Type {
+        ROTATED, // the floating tile was rotated, detail is "r" or "l"
+        SLID, // the floating tile was slid in, detail is the sliding indicator
+        MOVED, // the adventurer moved to row, col, detail is the direction or "teleport"
+        RELIC_COLLECTED, // the adventurer collected a relic on row, col
+        ALL_RELICS_COLLECTED, // the adventurer has collected all their relics
+        TURN_ENDED, // the adventurer's turn is over
+        GAME_WON, // the adventurer has won the game
+        REJECTED // the action was not allowed, detail holds the reason
+    }
+
+    private final Type type;
+    private final Adventurer adventurer;
+    private final int row;
+    private final int col;
+    private final String detail;
+
+    /**
+     * Constructor for the GameEvent object.
+     * @param type the kind of event.
+     * @param adventurer the {@code Adventurer} the event is about.
+     * @param row the row of the tile the event happened on, or 0 if it has none.
+     * @param col the column of the tile the event happened on, or 0 if it has none.
+     * @param detail extra information about the event, such as a sliding indicator or the reason an action was rejected.
+     */
+    public GameEvent(Type type, Adventurer adventurer, int row, int col, String detail) {
+        this.type = type;
+        this.adventurer = adventurer;
+        this.row = row;
+        this.col = col;
+        this.detail = detail;
+    }
+
+    /**
+     * Returns the kind of event.
+     * @return the {@code Type} of the event.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the adventurer the event is about.
+     * @return an {@code Adventurer} object.
+     */
+    public Adventurer getAdventurer() {
+        return adventurer;
+    }
+
+    /**
+     * Returns the row of the tile the event happened on.
+     * @return the row, or 0 if the event has no tile.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Returns the column of the tile the event happened on.
+     * @return the column, or 0 if the event has no tile.
+     */
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * Returns extra information about the event.
+     * @return a {@code String} such as a sliding indicator, a direction or the reason an action was rejected.
+     */
+    public String getDetail() {
+        return detail;
+    }
+}
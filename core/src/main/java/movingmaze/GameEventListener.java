@@ -0,0 +1,15 @@
+package movingmaze;
+
+/**
+ * Interface for objects that want to be told about every {@code GameEvent} produced by a {@code GameEngine}, such as renderers.
+ * @author Philip de Bruyn
+ * @see GameEngine#addListener(GameEventListener)
+ */
+public interface GameEventListener {
+
+    /**
+     * Called once for every event, in the order the events happened.
+     * @param event the {@code GameEvent} that happened.
+     */
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,1041 @@
+package movingmaze;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * The GameState class handles storing information pertaining to the current state of the game. Such as current turn and if the game is running.
+ * It also performs certain functions that alter the state of the game and its objects.
+ * These functions include moving players, ending the game, collecting relics, checking if the game has been won
+ * and in some cases displaying the board and scoreboard.
+ * @author Philip de Bruyn
+ */
+
+public class GameState {
+
+    private final Adventurer[] adventurers;
+    private int currentTurnIndex;
+    private int K;
+    boolean gameIsRunning;
+    boolean isMoving;
+    private TileMaze tileMaze; // the maze this game is played on, used for its packed openings
+    private ZobristHash hash; // hash of the whole game state, or null if hashing is not enabled
+    private static final int RECENT_ROUNDS = 3; // how many rounds of turns the hashes of recent states are kept for
+    private final long[] recentStates; // hash at the end of each of the last turns, oldest overwritten first
+    private int numRecentStates; // number of turns recorded in recentStates so far
+    private final PathFinder pathFinder = new PathFinder(); // reused by every reachability query
+
+    // reachable region of each player, cached until the maze changes ( only slides and rotations change it )
+    private final long[][] cachedRegions;
+    private PackedMaze cachedBoard;
+    private final int[] cachedVersions;
+
+    // every relic of the game by colour and number, see relicSlot. A relic rides along with its tile, so slides never make it stale
+    private static final int RELIC_NUMS = 16; // relic numbers fit in 4 bits in both board file formats
+    private Relic[] relicIndex;
+    private Tile[][] indexedMaze; // the maze relicIndex was built from
+
+    /**
+     * A Constructor that is used to create the gameState object and initializes all players , the starting turn and the number of relics to collect
+     * as well as the  {@code gameIsRunning} variable. Any of the players may be {@code null}, in which case the game is played without them,
+     * but at least {@link AdventurerTable#MIN_ADVENTURERS} must remain.
+     * @param a {@code Adventurer} Player Green
+     * @param b {@code Adventurer} Player Yellow
+     * @param c {@code Adventurer} Player Red
+     * @param d {@code Adventurer} Player Blue
+     * @param numRelic an {@code Integer} that holds how many relics must be collected for the game to be won.
+     * @throws IllegalArgumentException if fewer than {@link AdventurerTable#MIN_ADVENTURERS} players are given.
+     */
+    public GameState(Adventurer a, Adventurer b, Adventurer c, Adventurer d, int numRelic) {
+        this(Stream.of(a, b, c, d).filter(Objects::nonNull).toArray(Adventurer[]::new), numRelic); // missing players are left out
+    }
+
+    /**
+     * A Constructor that is used to create the gameState object for any number of players. The players take their turns in the order of the array.
+     * @param adventurers the {@code Adventurer} objects playing the game, from {@link AdventurerTable#MIN_ADVENTURERS} to
+     *                    {@link AdventurerTable#MAX_ADVENTURERS} of them, in the order they were created in their {@code TileMaze}.
+     * @param numRelic an {@code Integer} that holds how many relics must be collected for the game to be won.
+     * @throws IllegalArgumentException if there are fewer than {@link AdventurerTable#MIN_ADVENTURERS} adventurers or more than
+     *                                  {@link AdventurerTable#MAX_ADVENTURERS}.
+     */
+    public GameState(Adventurer[] adventurers, int numRelic) {
+        if (adventurers.length < AdventurerTable.MIN_ADVENTURERS || adventurers.length > AdventurerTable.MAX_ADVENTURERS) {
+            throw new IllegalArgumentException("a game needs " + AdventurerTable.MIN_ADVENTURERS + " to " + AdventurerTable.MAX_ADVENTURERS
+                    + " adventurers, not " + adventurers.length);
+        }
+        this.adventurers = adventurers.clone();
+        cachedRegions = new long[adventurers.length][];
+        cachedVersions = new int[adventurers.length];
+        recentStates = new long[RECENT_ROUNDS * adventurers.length];
+        currentTurnIndex = 0;
+        K = numRelic;
+        isMoving = false;
+        gameIsRunning = true;
+    }
+
+    /**
+     * Sets the {@code TileMaze} that this game is played on. Reachability queries on its 2D array of tiles use its packed openings
+     * instead of rebuilding them. The order of play must be the order the adventurers were created in the maze, as their position in that order
+     * is their bit in the occupancy mask of a {@code Tile}.
+     * @param tileMaze the {@code TileMaze} of this game.
+     * @throws IllegalArgumentException if the adventurers of the maze are not the adventurers of this game in the same order.
+     */
+    public void setTileMaze(TileMaze tileMaze) {
+        if (tileMaze.getNumAdventurers() != adventurers.length) {
+            throw new IllegalArgumentException("the maze has " + tileMaze.getNumAdventurers() + " adventurers and the game " + adventurers.length);
+        }
+        for (int i = 0; i < adventurers.length; i++) {
+            if (tileMaze.getAdventurer(i) != adventurers[i]) {
+                throw new IllegalArgumentException("adventurer " + i + " of the game is not adventurer " + i + " of the maze");
+            }
+        }
+        this.tileMaze = tileMaze;
+    }
+
+    /**
+     * Starts keeping a Zobrist hash of the whole game state. The hash is calculated once from scratch and from then on every slide, rotation,
+     * move, relic collection and change of turn updates only the parts of the hash that changed. The {@code TileMaze} must have been set.
+     * @param floatingTile the current floating tile.
+     * @see #setTileMaze(TileMaze)
+     */
+    public void enableHashing(Tile floatingTile) {
+        Tile[][] maze = tileMaze.getMaze();
+        hash = new ZobristHash(maze[0].length - 1, 0x5DEECE66DL);
+        hash.recompute(maze, floatingTile, adventurers, currentTurnIndex);
+
+        for (int iRow = 1; iRow < maze.length; iRow++) { // every relic updates the hash when it is hidden or un-hidden
+            for (int iCol = 1; iCol < maze[0].length; iCol++) {
+                if (maze[iRow][iCol].hasRelic()) {
+                    maze[iRow][iCol].getRelic().setHash(hash);
+                }
+            }
+        }
+        if (floatingTile.hasRelic()) {
+            floatingTile.getRelic().setHash(hash);
+        }
+        tileMaze.setHash(hash);
+    }
+
+    /**
+     * Returns the current Zobrist hash of the game state.
+     * @return the 64-bit hash, or 0 if hashing has not been enabled.
+     * @see #enableHashing(Tile)
+     */
+    public long getHash() {
+        return hash == null ? 0 : hash.getValue();
+    }
+
+    /**
+     * Returns the Zobrist hash of the game state, whose keys can be used to work out the hash of a state the game is not in.
+     * @return the {@code ZobristHash}, or {@code null} if hashing has not been enabled.
+     * @see #isRecentState(long)
+     */
+    public ZobristHash getZobristHash() {
+        return hash;
+    }
+
+    /**
+     * Checks whether the game was in a state at the end of one of the last few rounds of turns, for example to stop bots from playing in circles.
+     * Only states reached while hashing was enabled are remembered.
+     * @param stateHash the Zobrist hash of a state, including whose turn it is.
+     * @return {@code true} if the game was in that state at the end of a recent turn.
+     */
+    public boolean isRecentState(long stateHash) {
+        for (int i = 0; i < Math.min(numRecentStates, recentStates.length); i++) {
+            if (recentStates[i] == stateHash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks the isMoving boolean variables as true
+     */
+    public void startMoving() {
+        isMoving = true;
+    }
+
+    /**
+     * Marks the isMoving boolean variables as false
+     */
+    public void stopMoving() {
+        isMoving = false;
+    }
+
+    /**
+     * returns whether the game is still being played
+     * @return true until the game is won or quit.
+     */
+    public boolean isRunning() {
+        return gameIsRunning;
+    }
+
+    /**
+     * returns whether the players are currently moving or not
+     * @return true of the players are moving or false if they are busy sliding.
+     */
+    public boolean isMoving() {
+        return isMoving;
+    }
+
+    /**
+     * Instance method that returns the current Adventurer object whose turn it currently is.
+     * @return an {@code Adventurer} object
+     */
+    public Adventurer getCurrentTurn() {
+        return adventurers[currentTurnIndex];
+    }
+
+    /**
+     * An instance method that ends the game and prints out the scoreboard
+     */
+    public void endGame() {
+
+        gameIsRunning = false;
+
+        printScoreBoard();
+        System.exit(0);
+
+    }
+
+    /**
+     * An instance method that moves the current player into the direction entered by the user if legal.
+     * @param dir A {@code Char} that represents the direction that the adventurer wishes to move in
+     * @param maze A {@code Tile} 2D array that represents the maze of tiles.
+     * @see TileMaze for more information on the 2D array of Tiles.
+     * @see Tile for more information on Tiles.
+     */
+    public void movePlayer(char dir, Tile[][] maze) {
+
+        int currentRow = getCurrentTurn().getCurrentRow(); // get the row and column adventurer is in
+        int currentCol = getCurrentTurn().getCurrentCol();
+
+
+
+        if (hash != null) {
+            hash.togglePlayer(getCurrentTurn()); // take the old position out of the hash
+        }
+
+        switch (dir) {
+            case 'n': {
+
+
+                maze[currentRow][currentCol].moveOccupants(1L << getCurrentTurn().getIndex(), maze[currentRow - 1][currentCol]);
+
+                getCurrentTurn().setCurrentRow(currentRow - 1);
+                getCurrentTurn().setCurrentCol(currentCol);
+                StdOut.println(" Moving north.");
+                break;
+            }
+            case 'e': {
+
+
+                maze[currentRow][currentCol].moveOccupants(1L << getCurrentTurn().getIndex(), maze[currentRow][currentCol + 1]);
+
+                getCurrentTurn().setCurrentRow(currentRow);
+                getCurrentTurn().setCurrentCol(currentCol + 1);
+                StdOut.println(" Moving east.");
+                break;
+            }
+            case 's': {
+
+                maze[currentRow][currentCol].moveOccupants(1L << getCurrentTurn().getIndex(), maze[currentRow + 1][currentCol]);
+
+                getCurrentTurn().setCurrentRow(currentRow + 1);
+                getCurrentTurn().setCurrentCol(currentCol);
+                StdOut.println(" Moving south.");
+                break;
+            }
+            case 'w': {
+
+                maze[currentRow][currentCol].moveOccupants(1L << getCurrentTurn().getIndex(), maze[currentRow][currentCol - 1]);
+
+                getCurrentTurn().setCurrentRow(currentRow);
+                getCurrentTurn().setCurrentCol(currentCol - 1);
+                StdOut.println(" Moving west.");
+                break;
+            }
+
+
+        }
+
+        if (hash != null) {
+            hash.togglePlayer(getCurrentTurn()); // put the new position into the hash
+        }
+
+
+    }
+
+    /**
+     * An instance method used to determine if there is a valid path from the current players position to the desired position provided as input
+     * @param desiredCol desired column that the player wishes to move to
+     * @param desiredRow desired row that the player wishes to move to
+     * @param maze A {@code Tile} 2D array that represents the maze of tiles.
+     * @return {@code true} if the player can move to that position and false otherwise.
+     */
+    public boolean isValidPath(int desiredCol,int desiredRow,Tile[][] maze) { // function that determines if there is a path from adventurers current position to the desired tile
+
+        if( desiredCol >= maze[0].length || desiredRow >= maze.length || desiredCol < 1 || desiredRow < 1) {
+           // StdOut.println(" Cannot move to " + desiredCol + "," + desiredRow + ": no path.");
+            return false;
+        }
+
+        if (tileMaze != null && tileMaze.getMaze() == maze) { // the maze is labelled, so compare the labels of the two tiles
+            return canReach(getCurrentTurn(), desiredRow, desiredCol);
+        }
+
+        long[] region = getReachableSet(maze); // get the reachable set of tiles from current position
+
+        return PathFinder.isInSet(region, maze[0].length - 1, desiredRow, desiredCol);
+
+    }
+
+    /**
+     * An instance method that checks in constant time whether any adventurer can reach the given tile, using the connected component
+     * labels of this game's {@code TileMaze}.
+     * @param player the {@code Adventurer} to check for.
+     * @param desiredRow the row of the tile.
+     * @param desiredCol the column of the tile.
+     * @return {@code true} if {@code player} has a path to the tile.
+     * @see ComponentLabeller
+     */
+    public boolean canReach(Adventurer player, int desiredRow, int desiredCol) {
+        return tileMaze.getComponents().isConnected(player.getCurrentRow(), player.getCurrentCol(), desiredRow, desiredCol);
+    }
+
+    /**
+     * An instance method that finds every tile the current player can reach, so that many destinations can be tested
+     * against one flood fill. Bit {@code (row - 1) * numCols + (col - 1)} is set if the tile at row, col can be reached.
+     * The region is cached per player until the maze is slid or the floating tile is rotated. Moving inside the region does not
+     * change it, so a player's later moves in the same turn reuse the cached region instead of searching again.
+     * @param maze A {@code Tile} 2D array that represents the maze of tiles.
+     * @return a bitset of the reachable tiles. It is shared with the cache and must not be modified.
+     * @see PathFinder#isInSet(long[], int, int, int)
+     */
+    public long[] getReachableSet(Tile[][] maze) {
+        PackedMaze board = getPackedMaze(maze);
+        int currentRow = getCurrentTurn().getCurrentRow();
+        int currentCol = getCurrentTurn().getCurrentCol();
+        long[] region = cachedRegions[currentTurnIndex];
+
+        if (board == cachedBoard && board.getVersion() == cachedVersions[currentTurnIndex] && region != null
+                && PathFinder.isInSet(region, board.getNumCols(), currentRow, currentCol)) {
+            return region; // the maze has not changed and the player is still inside their region
+        }
+
+        if (board != cachedBoard) { // a different maze, so no cached region can be used
+            cachedBoard = board;
+            for (int i = 0; i < cachedRegions.length; i++) {
+                cachedRegions[i] = null;
+            }
+        }
+
+        long[] reachable = pathFinder.findReachable(board, currentRow, currentCol);
+        if (region == null || region.length != reachable.length) {
+            region = new long[reachable.length];
+            cachedRegions[currentTurnIndex] = region;
+        }
+        System.arraycopy(reachable, 0, region, 0, reachable.length);
+        cachedVersions[currentTurnIndex] = board.getVersion();
+        return region;
+    }
+
+
+    /**
+     * Auxillary method that marks which tiles are reachable from the given position
+     * @param maze A {@code Tile} 2D array that represents the maze of tiles.
+     * @param reachable A 2D boolean array that will hold the reachable tiles indices.
+     * @param visited A 2D boolean array that will hold the tiles visited by the search.
+     * @param currentRow current row that the player is in.
+     * @param currentCol current column the player is in.
+     */
+    public void getReachableTiles(Tile[][] maze, boolean[][] reachable,boolean[][] visited,int currentRow,int currentCol) {
+        pathFinder.findReachable(getPackedMaze(maze), currentRow, currentCol);
+
+        for (int iRow = 1; iRow < maze.length; iRow++) {
+            for (int iCol = 1; iCol < maze[0].length; iCol++) {
+                if (pathFinder.isReachable(iRow, iCol)) {
+                    reachable[iRow][iCol] = true;
+                    visited[iRow][iCol] = true;
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Returns the packed openings for the given 2D array of tiles. If it belongs to this game's {@code TileMaze}, its packed openings are used,
+     * otherwise they are built from the tiles.
+     * @param maze A {@code Tile} 2D array that represents the maze of tiles.
+     * @return the {@code PackedMaze} matching {@code maze}
+     */
+    private PackedMaze getPackedMaze(Tile[][] maze) {
+        if (tileMaze != null && tileMaze.getMaze() == maze) {
+            return tileMaze.getPackedMaze();
+        }
+        return PackedMaze.fromTiles(maze);
+    }
+
+    /**
+     * Teleports player directly the desired column and row in the maze.
+     * @param desiredCol the desired column to teleport player to.
+     * @param desiredRow the desired row to teleport player to.
+     * @param maze A {@code Tile} 2D array that represents the maze of tiles.
+     */
+
+    public void teleportPlayer(int desiredCol,int desiredRow,Tile[][] maze) {
+        int currentRow = getCurrentTurn().getCurrentRow(); // get the players current position
+        int currentCol = getCurrentTurn().getCurrentCol();
+
+        if(currentCol == desiredCol && currentRow == desiredRow) {
+            return;
+        }
+
+        if (hash != null) {
+            hash.togglePlayer(getCurrentTurn()); // take the old position out of the hash
+        }
+
+        maze[currentRow][currentCol].moveOccupants(1L << getCurrentTurn().getIndex(), maze[desiredRow][desiredCol]); // move adventurer to the new tile
+
+        getCurrentTurn().setCurrentRow(desiredRow);
+        getCurrentTurn().setCurrentCol(desiredCol);
+
+        if (hash != null) {
+            hash.togglePlayer(getCurrentTurn()); // put the new position into the hash
+        }
+
+
+    }
+
+
+    /**
+     * This function moves the player to the new tile without printing anything to the terminal. Its main use is for API testing
+     *
+     * @param dir A {@code Char} indicating the direction the player wants to move in
+     * @param maze A {@code Tile} 2D array that represents the maze of tiles.
+     */
+    public void movePlayerNoText(char dir, Tile[][] maze) {
+
+        int currentRow = getCurrentTurn().getCurrentRow(); // get the row and column adventurer is in
+        int currentCol = getCurrentTurn().getCurrentCol();
+
+        if (hash != null) {
+            hash.togglePlayer(getCurrentTurn()); // take the old position out of the hash
+        }
+
+        switch (dir) {
+            case 'n': {
+
+
+                maze[currentRow][currentCol].moveOccupants(1L << getCurrentTurn().getIndex(), maze[currentRow - 1][currentCol]);
+
+                getCurrentTurn().setCurrentRow(currentRow - 1);
+                getCurrentTurn().setCurrentCol(currentCol);
+
+                break;
+            }
+            case 'e': {
+
+
+                maze[currentRow][currentCol].moveOccupants(1L << getCurrentTurn().getIndex(), maze[currentRow][currentCol + 1]);
+
+                getCurrentTurn().setCurrentRow(currentRow);
+                getCurrentTurn().setCurrentCol(currentCol + 1);
+
+                break;
+            }
+            case 's': {
+
+                maze[currentRow][currentCol].moveOccupants(1L << getCurrentTurn().getIndex(), maze[currentRow + 1][currentCol]);
+
+                getCurrentTurn().setCurrentRow(currentRow + 1);
+                getCurrentTurn().setCurrentCol(currentCol);
+
+                break;
+            }
+            case 'w': {
+
+                maze[currentRow][currentCol].moveOccupants(1L << getCurrentTurn().getIndex(), maze[currentRow][currentCol - 1]);
+
+                getCurrentTurn().setCurrentRow(currentRow);
+                getCurrentTurn().setCurrentCol(currentCol - 1);
+
+                break;
+            }
+
+
+        }
+
+        if (hash != null) {
+            hash.togglePlayer(getCurrentTurn()); // put the new position into the hash
+        }
+
+    }
+
+    /**
+     * An instance method that checks whether a player can move from the current tile to a destination tile.
+     * This functionality was built into my other methods, however for API testing, this method was created to test the
+     * subroutines using the same logic in my other methods.
+     * @param dir A {@code Char} indicating what direction the player wants to move in.
+     * @param currentTile The {@code Tile} that the adventurer is currently located on.
+     * @param destinationTile The {@code Tile} that the adventurer would like to travel to.
+     * @return {@code true} if the adventurer can move to the destination {@code Tile} .
+     */
+    public static boolean canMoveInDirection(char dir, Tile currentTile, Tile destinationTile) {
+        char oppDir = ' ';
+
+        if (dir == 'n') {
+
+            oppDir = 's';
+        }
+        if (dir == 'e') {
+
+            oppDir = 'w';
+        }
+        if (dir == 's') {
+
+            oppDir = 'n';
+        }
+        if (dir == 'w') {
+
+            oppDir = 'e';
+        }
+
+        if (currentTile.isOpenToSide(dir) && destinationTile.isOpenToSide(oppDir)) {
+            return true;
+        } else {
+            return false;
+        }
+
+    }
+
+    /**
+     * Static method that checks if the player can move in the direction provided based on their current position in the maze.
+     * As a side effect, it also sends a String to StdOut to indicate if the player
+     * moved, and if not , why he could not move
+     * @param dir a {@code Char } that dictates what direction the player wants to move in
+     * @param maze a {@code Tile} 2D array that represents the Maze of Tiles
+     * @return {@code true} if the player is able to move in that direction.
+     */
+    public boolean isValidPlayerMove(char dir, Tile[][] maze) {
+
+        String direction = "";
+        char oppDir = ' ';
+        if (dir == 'n') {
+            direction = "north";
+            oppDir = 's';
+        }
+        if (dir == 'e') {
+            direction = "east";
+            oppDir = 'w';
+        }
+        if (dir == 's') {
+            direction = "south";
+            oppDir = 'n';
+        }
+        if (dir == 'w') {
+            direction = "west";
+            oppDir = 'e';
+        }
+        //check if the tile that the adventurer is currently on, is open to the direction they wish to travel in
+        if (maze[getCurrentTurn().getCurrentRow()][getCurrentTurn().getCurrentCol()].isOpenToSide(dir)) {
+
+            switch (dir) {
+                case 'n': {
+                    if (getCurrentTurn().getCurrentRow() - 1 < 1) {
+                        StdOut.println(" Cannot move " + direction + ": off the board.");
+                        return false;
+                    }
+                    break;
+                }
+                case 'e': {
+                    if (getCurrentTurn().getCurrentCol() + 1 > maze[0].length - 1) {
+                        StdOut.println(" Cannot move " + direction + ": off the board.");
+                        return false;
+                    }
+                    break;
+                }
+                case 's': {
+                    if (getCurrentTurn().getCurrentRow() + 1 > maze.length - 1) {
+                        StdOut.println(" Cannot move " + direction + ": off the board.");
+                        return false;
+                    }
+
+                    break;
+                }
+                case 'w': {
+                    if (getCurrentTurn().getCurrentCol() - 1 < 1) {
+                        StdOut.println(" Cannot move " + direction + ": off the board.");
+                        return false;
+                    }
+
+                    break;
+                }
+
+
+            }
+
+            switch (oppDir) { // check if the tile in that direction is also open to that opposite direction
+
+                case 's': {
+
+                    if (!maze[getCurrentTurn().getCurrentRow() - 1][getCurrentTurn().getCurrentCol()].isOpenToSide(oppDir)) {
+                        StdOut.println(" Cannot move " + direction + ": no path.");
+                        return false;
+                    }
+                    break;
+
+                }
+
+                case 'w': {
+
+                    if (!maze[getCurrentTurn().getCurrentRow()][getCurrentTurn().getCurrentCol() + 1].isOpenToSide(oppDir)) {
+                        StdOut.println(" Cannot move " + direction + ": no path.");
+                        return false;
+                    }
+                    break;
+
+                }
+
+                case 'e': {
+
+                    if (!maze[getCurrentTurn().getCurrentRow()][getCurrentTurn().getCurrentCol() - 1].isOpenToSide(oppDir)) {
+                        StdOut.println(" Cannot move " + direction + ": no path.");
+                        return false;
+                    }
+                    break;
+
+                }
+
+                case 'n': {
+
+                    if (!maze[getCurrentTurn().getCurrentRow() + 1][getCurrentTurn().getCurrentCol()].isOpenToSide(oppDir)) {
+                        StdOut.println(" Cannot move " + direction + ": no path.");
+                        return false;
+                    }
+                    break;
+
+                }
+
+            }
+
+
+        } else {
+
+            StdOut.println(" Cannot move " + direction + ": no path.");
+            return false;
+        }
+        return true; // if no issues found then return true
+
+    }
+
+    /**
+     * Instance method that checks if the player can move in the direction provided based on their current position in the maze.
+     * This method is different to the method referenced below as it does not print any strings.
+     * @param dir a {@code Char } that dictates what direction the player wants to move in
+     * @param maze a {@code Tile} 2D array that represents the Maze of Tiles
+     * @return {@code true} if the player is able to move in that direction.
+     * @see #isValidPlayerMove(char, Tile[][])
+     */
+    public boolean isValidPlayerMoveWithoutText(char dir, Tile[][] maze) {
+
+
+        char oppDir = ' ';
+        if (dir == 'n') {
+
+            oppDir = 's';
+        }
+        if (dir == 'e') {
+
+            oppDir = 'w';
+        }
+        if (dir == 's') {
+
+            oppDir = 'n';
+        }
+        if (dir == 'w') {
+
+            oppDir = 'e';
+        }
+        //check if the tile that the adventurer is currently on, is open to the direction they wish to travel in
+        if (maze[getCurrentTurn().getCurrentRow()][getCurrentTurn().getCurrentCol()].isOpenToSide(dir)) {
+
+            switch (dir) {
+                case 'n': {
+                    if (getCurrentTurn().getCurrentRow() - 1 < 1) {
+
+                        return false;
+                    }
+                    break;
+                }
+                case 'e': {
+                    if (getCurrentTurn().getCurrentCol() + 1 > maze[0].length - 1) {
+
+                        return false;
+                    }
+                    break;
+                }
+                case 's': {
+                    if (getCurrentTurn().getCurrentRow() + 1 > maze.length - 1) {
+
+                        return false;
+                    }
+
+                    break;
+                }
+                case 'w': {
+                    if (getCurrentTurn().getCurrentCol() - 1 < 1) {
+
+                        return false;
+                    }
+
+                    break;
+                }
+
+
+            }
+
+            switch (oppDir) { // check if the tile in that direction is also open to that opposite direction
+
+                case 's': {
+
+                    if (!maze[getCurrentTurn().getCurrentRow() - 1][getCurrentTurn().getCurrentCol()].isOpenToSide(oppDir)) {
+
+                        return false;
+                    }
+                    break;
+
+                }
+
+                case 'w': {
+
+                    if (!maze[getCurrentTurn().getCurrentRow()][getCurrentTurn().getCurrentCol() + 1].isOpenToSide(oppDir)) {
+
+                        return false;
+                    }
+                    break;
+
+                }
+
+                case 'e': {
+
+                    if (!maze[getCurrentTurn().getCurrentRow()][getCurrentTurn().getCurrentCol() - 1].isOpenToSide(oppDir)) {
+
+                        return false;
+                    }
+                    break;
+
+                }
+
+                case 'n': {
+
+                    if (!maze[getCurrentTurn().getCurrentRow() + 1][getCurrentTurn().getCurrentCol()].isOpenToSide(oppDir)) {
+
+                        return false;
+                    }
+                    break;
+
+                }
+
+            }
+
+
+        } else {
+
+
+            return false;
+        }
+        return true; // if no issues found then return true
+
+    }
+
+    /**
+     * An instance method used to swap the to next adventurers turn in the sequence : Green, Yellow, Red, Blue and any further adventurers, cyclically.
+     */
+    public void nextTurn() {
+        StdOut.println("End of " + getCurrentTurn().getColorString() + "'s turn.");
+        printScoreBoard();
+
+        advanceTurn();
+
+
+    }
+
+    /**
+     * An instance method that swaps to the next adventurers turn without printing anything. It is used by {@code GameEngine}.
+     * @see #nextTurn()
+     */
+    public void advanceTurn() {
+        if (hash != null) {
+            hash.toggleTurn(currentTurnIndex);
+        }
+        if (currentTurnIndex != adventurers.length - 1) {
+            currentTurnIndex++;
+        } else {
+            currentTurnIndex = 0;
+        }
+        if (hash != null) {
+            hash.toggleTurn(currentTurnIndex);
+            recentStates[numRecentStates++ % recentStates.length] = hash.getValue();
+        }
+    }
+
+    /**
+     * An instance method that marks the game as finished without printing anything or closing the program.
+     * It is used by {@code GameEngine}, so that many games can run one after the other.
+     * @see #endGame()
+     */
+    public void stopGame() {
+        gameIsRunning = false;
+    }
+
+    /**
+     * Returns the number of relics each adventurer must collect to win.
+     * @return an {@code Integer} that holds how many relics must be collected for the game to be won.
+     */
+    public int getNumRelicsToCollect() {
+        return K;
+    }
+
+    /**
+     * An instance method that prints the current scores of the adventurers as well as the total amount of relics they must collect.
+     */
+    public void printScoreBoard() {
+
+        StdOut.println("Relics collected /" + K + ":");
+        for (Adventurer a : adventurers) { // names are padded so that the scores line up
+            String name = a.getColorString();
+            StdOut.println("- " + name + " ".repeat(Math.max(1, 7 - name.length())) + a.getNumRelicCollected());
+        }
+
+    }
+
+    /**
+     * An accessor method that returns the array of adventurers playing the game.
+     * @return a reference to a 1D {@code Adventurer} array.
+     */
+    public Adventurer[] getAdventurers() {
+        return adventurers;
+    }
+
+
+    /**
+     * An instance method that checks if any adventurers is in a winning position and state ( meaning they have collected all relics )
+     * @return {@code true} if the player won the game
+     */
+    public boolean ifWon() {
+        if (getCurrentTurn().getNumRelicCollected() == K && getCurrentTurn().getCurrentRow() == getCurrentTurn().getStartingRow() && getCurrentTurn().getCurrentCol() == getCurrentTurn().getStartingCol()) {
+            // check if the current player is in a winning position
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * An instance method that is used to collect relics during the moving phase. After a move is executed,
+     * this method is called. The current player who is moving is compared to the tile they are on. If a relic that can be picked up by that player
+     * is on their current tile, they collect the relic, and the next one is displayed. The updated board is printed, whether a relic is picked up or not.
+     * If a relic is collected, the current players turn ends, and the score board is printed
+     * @param maze a 2D array of {@code Tile} that represents the Maze of Tiles.
+     * @param TileMaze a {@code TileMaze} object that represents the Maze as a whole.
+     * @param floatingTile a {@code Tile} object that represents the current floating tile.
+     * @return {@code true} if a relic was collected
+     * @see #movePlayer(char, Tile[][])
+     * @see TileMaze#drawFrame(Tile)
+     */
+    public boolean movementRelicCollection(Tile[][] maze, TileMaze TileMaze, Tile floatingTile) {
+        // allows the moving player to pick up relics and in doing so will end their turn
+        if (collectRelic(getCurrentTurn(), maze, floatingTile)) {
+            // if the adventurer was on a tile with a matching relic, it is picked up, the next is un-hidden and the turn ends
+
+            TileMaze.drawFrame(floatingTile); // draw updated maze and afterwards we print needed messages
+            StdOut.println(getCurrentTurn().getColorString() + " has collected a relic.");
+            if (hasAllRelics(getCurrentTurn())) { // if the player has collected all their relics, we also end turn but add more text
+                StdOut.println(getCurrentTurn().getColorString() + " has all their relics.");
+            }
+
+            nextTurn();
+            return true;
+
+        } else { // no relic could be collected on this tile, so we just print maze and move on. The players move does not end
+            TileMaze.drawFrame(floatingTile);
+            return false;
+        }
+
+
+    }
+
+    /**
+     * An instance method that collects the relic on the player's current tile if it is the next relic they must collect, without printing anything.
+     * The collected relic is hidden and the player's next relic is un-hidden.
+     * @param player the {@code Adventurer} that may collect a relic.
+     * @param maze a 2D array of {@code Tile} that represents the Maze of Tiles.
+     * @param floatingTile a {@code Tile} object that represents the current floating tile.
+     * @return {@code true} if a relic was collected
+     */
+    public boolean collectRelic(Adventurer player, Tile[][] maze, Tile floatingTile) {
+        Tile tile = maze[player.getCurrentRow()][player.getCurrentCol()];
+
+        // compare the packed relic of the tile with the player's next relic, and only look at the relic itself if they match
+        if (tile.getRelicCode() != Relic.code(Character.toLowerCase(player.getColor()), player.getNumRelicCollected() + 1)) {
+            return false;
+        }
+
+        Relic relic = tile.getRelic();
+        if (!relic.isHidden()) {
+            player.incNumRelicCollected(); // pick it up
+            relic.Hide(); // hide it
+
+            // now we un-hide next relic, we do this by looping through the maze and finding the next relic of that color
+            unHideNextRelic(player, maze, floatingTile);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether the player has collected all the relics they need.
+     * @param player an {@code Adventurer} object.
+     * @return {@code true} if the player has collected {@code K} relics.
+     */
+    public boolean hasAllRelics(Adventurer player) {
+        return player.getNumRelicCollected() == K;
+    }
+
+    /**
+     * An instance method that is used to collect relics during the sliding and rotating phase. After a tile is rotated and slid into the maze
+     * this method is called. The current tile of every player on the slid row or column is checked to see if a relic collected should be triggered.
+     * Players anywhere else are still on the same tile as before, where they could not collect anything. If a relic is collected,
+     * the players turn does not end. If a relic is collected, the next relic for that player is shown. After all tiles that hold players are checked
+     * for relic collection, the updated board is printed
+     *
+     * @param maze a 2D array of {@code Tile} that represents the Maze of Tiles.
+     * @param TileMaze  a {@code TileMaze} object that represents the Maze as a whole.
+     * @param floatingTile a {@code Tile} object that represents the current floating tile.
+     *
+     * @see TileMaze#drawTextMaze()
+     * @see TileMaze#slideIntoMaze(String, Tile)
+     */
+    public void wrapAroundRelicCollection(Tile[][] maze, TileMaze TileMaze, Tile floatingTile) {
+        // what we do here, is go through all adventurers, check if they are on a tile that they can pick up a relic on. If so, we pick it up, but dont end their turn
+
+        for (int iPlayer = 0; iPlayer < adventurers.length; iPlayer++) { // check for each adventurer
+
+            if (collectRelicAfterSlide(adventurers[iPlayer], TileMaze, floatingTile)) {
+                // if the player was on a tile with a relic that must be collected, it was collected, so report its collection and scoreboard
+
+                StdOut.println(adventurers[iPlayer].getColorString() + " collected a relic.");
+                if (hasAllRelics(adventurers[iPlayer])) {
+                    StdOut.println(adventurers[iPlayer].getColorString() + " has all their relics.");
+                }
+                printScoreBoard();
+
+            }
+
+        }
+
+    }
+
+    /**
+     * An instance method that collects the relic on a player's tile after a slide, without printing anything. Only a player on the slid row or
+     * column, including one who wrapped around onto the inserted tile, can be on a new tile, so every other player is skipped without looking
+     * at their tile.
+     * @param player the {@code Adventurer} that may collect a relic.
+     * @param tileMaze the {@code TileMaze} that was slid.
+     * @param floatingTile a {@code Tile} object that represents the new floating tile.
+     * @return {@code true} if a relic was collected
+     * @see TileMaze#isOnLastSlide(int, int)
+     */
+    public boolean collectRelicAfterSlide(Adventurer player, TileMaze tileMaze, Tile floatingTile) {
+        if (!tileMaze.isOnLastSlide(player.getCurrentRow(), player.getCurrentCol())) {
+            return false;
+        }
+        return collectRelic(player, tileMaze.getMaze(), floatingTile);
+    }
+
+    /**
+     * An instance method that returns the tile the adventurer is heading for: the tile holding their next relic, or their starting tile once
+     * they have all their relics. The relic is looked up in the relic index and found at the position of its tile, without searching the maze.
+     * @param player an {@code Adventurer} object.
+     * @param maze a 2D array of {@code Tile} that represents the Maze of Tiles.
+     * @param floatingTile a {@code Tile} object that represents the current floating tile.
+     * @return an array holding the row and column of the target, or {@code null} if the next relic is not in the maze ( it is on the floating tile ).
+     */
+    public int[] findTarget(Adventurer player, Tile[][] maze, Tile floatingTile) {
+        if (hasAllRelics(player)) {
+            return new int[]{player.getStartingRow(), player.getStartingCol()};
+        }
+        Relic relic = findRelic(Character.toLowerCase(player.getColor()), player.getNumRelicCollected() + 1, maze, floatingTile);
+        if (relic == null || relic.getTile().getRow() == 0) { // no such relic, or it is on the floating tile
+            return null;
+        }
+        return new int[]{relic.getTile().getRow(), relic.getTile().getCol()};
+    }
+
+    /**
+     * An instance method used to un-hide the next relic that the adventurer should collect.
+     * @param player an {@code Adventurer} object of which the next relic should be unlocked
+     * @param maze a 2D array of {@code Tile} that represents the Maze of Tiles.
+     * @param floatingTile a {@code Tile} object that represents the current floating tile.
+     */
+
+    public void unHideNextRelic(Adventurer player, Tile[][] maze, Tile floatingTile) {
+        Relic relic = findRelic(Character.toLowerCase(player.getColor()), player.getNumRelicCollected() + 1, maze, floatingTile);
+        if (relic != null) {
+            relic.unHide();
+        }
+    }
+
+    /**
+     * An instance method that looks up a relic in the relic index, building the index first if this is the first lookup on {@code maze}.
+     * Tiles are only moved around during a game and never replaced, so the relics found on the first lookup stay the relics of the game,
+     * wherever their tiles are slid, including onto the floating tile.
+     * @param color the lower case colour of the relic.
+     * @param num the number of the relic.
+     * @param maze a 2D array of {@code Tile} that represents the Maze of Tiles.
+     * @param floatingTile a {@code Tile} object that represents the current floating tile.
+     * @return the {@code Relic}, or null if there is no such relic.
+     */
+    private Relic findRelic(char color, int num, Tile[][] maze, Tile floatingTile) {
+        if (relicIndex == null || indexedMaze != maze) {
+            relicIndex = new Relic[AdventurerTable.MAX_ADVENTURERS * RELIC_NUMS];
+            indexedMaze = maze;
+            for (int iRow = 1; iRow < maze.length; iRow++) {
+                for (int iCol = 1; iCol < maze[0].length; iCol++) {
+                    addToRelicIndex(maze[iRow][iCol]);
+                }
+            }
+            addToRelicIndex(floatingTile);
+        }
+        int slot = relicSlot(color, num);
+        return slot < 0 ? null : relicIndex[slot];
+    }
+
+    /**
+     * An instance method that adds the relic of a tile, if it has one, to the relic index.
+     * @param tile a {@code Tile} of the game.
+     */
+    private void addToRelicIndex(Tile tile) {
+        if (tile.hasRelic()) {
+            int slot = relicSlot(tile.getRelic().getColor(), tile.getRelic().getRelicNum());
+            if (slot >= 0) {
+                relicIndex[slot] = tile.getRelic();
+            }
+        }
+    }
+
+    /**
+     * A static method that returns where a relic is stored in the relic index.
+     * @param color the lower case colour of the relic.
+     * @param num the number of the relic.
+     * @return the index into the relic index, or -1 for a colour or number that no relic can have.
+     */
+    private static int relicSlot(char color, int num) {
+        int iColor = AdventurerTable.indexOfRelicColor(color);
+        if (iColor < 0 || num < 0 || num >= RELIC_NUMS) {
+            return -1;
+        }
+        return iColor * RELIC_NUMS + num;
+    }
+}
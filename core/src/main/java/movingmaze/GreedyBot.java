@@ -0,0 +1,41 @@
+package movingmaze;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A {@code BotStrategy} that slides the floating tile at random, but then moves straight to its next relic, or back to its starting tile
+ * once it has all its relics, whenever there is a path to it. Otherwise it moves to a random tile it can reach.
+ * @author Philip de Bruyn
+ */
+public class GreedyBot implements BotStrategy {
+
+    /**
+     * Plays one turn, heading for the adventurer's target if it can be reached.
+     * @param engine the {@code GameEngine} of the game being played.
+     * @param random the random number generator of this game.
+     */
+    public void playTurn(GameEngine engine, Random random) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            engine.applyRotate(true);
+        }
+
+        List<String> slides = engine.getLegalSlides();
+        engine.applySlide(slides.get(random.nextInt(slides.size())));
+
+        if (engine.getGameState().isMoving() && !engine.isOver()) {
+            Adventurer player = engine.getGameState().getCurrentTurn();
+            int[] target = engine.getTarget(player);
+            if (target != null && engine.getGameState().canReach(player, target[0], target[1])) {
+                engine.applyTeleport(target[0], target[1]);
+            } else {
+                int[] destination = RandomBot.randomReachableTile(engine, random);
+                engine.applyTeleport(destination[0], destination[1]);
+            }
+        }
+        if (engine.getGameState().isMoving() && !engine.isOver()) {
+            engine.endTurn();
+        }
+    }
+}
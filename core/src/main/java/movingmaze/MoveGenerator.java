@@ -0,0 +1,193 @@
+package movingmaze;
+
+/**
+ * The MoveGenerator class lists every distinct way to start a turn: a number of clockwise rotations of the floating tile together with a
+ * legal slide. Each action is packed into one {@code int} so that searches and automated games can walk through them without making strings.
+ * Rotations that give the floating tile the same openings as a smaller rotation are left out, so a straight tile has two orientations,
+ * a cross or closed tile has one and every other tile has four.
+ * <p>
+ * An action holds the slide index in bits 0 to 19, the side in bits 20 and 21 ( north, east, south, west ) and the number of rotations in bits 22
+ * and 23.
+ * @author Philip de Bruyn
+ * @see TileMaze#isLegalSlide(String, Tile)
+ */
+public class MoveGenerator {
+
+    private static final char[] SIDES = {'n', 'e', 's', 'w'};
+    private static final int SIDE_SHIFT = 20; // the index takes the bits below, enough for any maze that fits in memory
+    private static final int ROTATION_SHIFT = 22;
+    private static final int INDEX_MASK = (1 << SIDE_SHIFT) - 1;
+
+    /**
+     * Returns the largest number of actions that can be generated for a maze, which is the size {@code actions} needs for
+     * {@link #generate(PackedMaze, int, int, int[])}.
+     * @param board the maze.
+     * @return the largest number of actions.
+     */
+    public static int maxActions(PackedMaze board) {
+        return 4 * 2 * (slidesPerSide(board.getNumCols()) + slidesPerSide(board.getNumRows()));
+    }
+
+    /**
+     * Lists every distinct action for the floating tile of a game.
+     * @param tileMaze the {@code TileMaze} of the game.
+     * @param floatingTile the current floating tile.
+     * @return a new array holding the actions.
+     */
+    public static int[] generate(TileMaze tileMaze, Tile floatingTile) {
+        PackedMaze board = tileMaze.getPackedMaze();
+        int[] actions = new int[maxActions(board)];
+        int count = generate(board, floatingTile.getOpenings(), encodeSlide(floatingTile.getLastExitPoint()), actions);
+        int[] result = new int[count];
+        System.arraycopy(actions, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Writes every distinct action into {@code actions}. Nothing is allocated, so it can be called many times during a search.
+     * @param board the maze the floating tile is slid into.
+     * @param openings the openings of the floating tile before any rotation.
+     * @param lastExit the encoded slide the floating tile may not be slid into, as made by {@link #encodeSlide(String)}, or -1 if there is none.
+     * @param actions the array the actions are written to, of at least {@link #maxActions(PackedMaze)} entries.
+     * @return the number of actions written.
+     */
+    public static int generate(PackedMaze board, int openings, int lastExit, int[] actions) {
+        int count = 0;
+        for (int rotations = 0; rotations < 4; rotations++) {
+            if (!isRepeatedRotation(openings, rotations)) {
+                for (int side = 0; side < 4; side++) {
+                    int limit = (side == 0 || side == 2) ? board.getNumCols() : board.getNumRows();
+                    for (int index = 2; index <= limit; index += 2) {
+                        int slide = side << SIDE_SHIFT | index;
+                        if (slide != lastExit) {
+                            actions[count++] = rotations << ROTATION_SHIFT | slide;
+                        }
+                    }
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Packs a sliding indicator into the slide part of an action.
+     * @param slidingIndicator a sliding indicator such as "n2", or an empty {@code String}.
+     * @return the encoded slide, or -1 if {@code slidingIndicator} is not a slide.
+     */
+    public static int encodeSlide(String slidingIndicator) {
+        if (slidingIndicator == null || slidingIndicator.length() < 2) {
+            return -1;
+        }
+        int side = new String(SIDES).indexOf(slidingIndicator.charAt(0));
+        if (side < 0) {
+            return -1;
+        }
+        int index;
+        try {
+            index = Integer.parseInt(slidingIndicator.substring(1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        if (index < 0 || index > INDEX_MASK) {
+            return -1;
+        }
+        return side << SIDE_SHIFT | index;
+    }
+
+    /**
+     * Returns the slide part of an action, as used for {@link #generate(PackedMaze, int, int, int[])}.
+     * @param action an encoded action.
+     * @return the encoded slide.
+     */
+    public static int getSlide(int action) {
+        return action & ((1 << ROTATION_SHIFT) - 1);
+    }
+
+    /**
+     * Returns the number of clockwise rotations of an action.
+     * @param action an encoded action.
+     * @return the number of rotations, from 0 to 3.
+     */
+    public static int getRotations(int action) {
+        return (action >>> ROTATION_SHIFT) & 3;
+    }
+
+    /**
+     * Returns the side an action slides the floating tile in from.
+     * @param action an encoded action.
+     * @return one of 'n', 'e', 's' or 'w'.
+     */
+    public static char getSide(int action) {
+        return SIDES[(action >>> SIDE_SHIFT) & 3];
+    }
+
+    /**
+     * Returns the row or column an action slides the floating tile into.
+     * @param action an encoded action.
+     * @return the index of the row or column.
+     */
+    public static int getIndex(int action) {
+        return action & INDEX_MASK;
+    }
+
+    /**
+     * Returns the sliding indicator of an action.
+     * @param action an encoded action.
+     * @return a sliding indicator such as "n2".
+     */
+    public static String toSlidingIndicator(int action) {
+        return "" + getSide(action) + getIndex(action);
+    }
+
+    /**
+     * Returns the encoded slide that a tile pushed out by an action may not be slid back into, which is the opposite side of the same row or column.
+     * @param action an encoded action.
+     * @return the encoded last exit point of the tile that was pushed out.
+     */
+    public static int exitOf(int action) {
+        return (((action >>> SIDE_SHIFT) + 2) & 3) << SIDE_SHIFT | getIndex(action);
+    }
+
+    /**
+     * Returns the openings of the floating tile after the rotations of an action.
+     * @param openings the openings before any rotation.
+     * @param action an encoded action.
+     * @return the rotated openings.
+     */
+    public static int rotatedOpenings(int openings, int action) {
+        for (int i = 0; i < getRotations(action); i++) {
+            openings = PackedMaze.rotateClockwise(openings);
+        }
+        return openings;
+    }
+
+    /**
+     * Checks whether rotating a tile a number of times gives the same openings as some smaller number of rotations.
+     * @param openings the openings before any rotation.
+     * @param rotations the number of clockwise rotations.
+     * @return {@code true} if the rotation can be left out.
+     */
+    private static boolean isRepeatedRotation(int openings, int rotations) {
+        int target = openings;
+        for (int i = 0; i < rotations; i++) {
+            target = PackedMaze.rotateClockwise(target);
+        }
+        int rotated = openings;
+        for (int i = 0; i < rotations; i++) {
+            if (rotated == target) {
+                return true;
+            }
+            rotated = PackedMaze.rotateClockwise(rotated);
+        }
+        return false;
+    }
+
+    /**
+     * Returns how many slides there are on one side of the maze.
+     * @param length the number of rows or columns along that side.
+     * @return the number of even indices.
+     */
+    private static int slidesPerSide(int length) {
+        return length / 2;
+    }
+}
@@ -0,0 +1,251 @@
+package movingmaze;
+
+/**
+ * The PackedMaze class stores the openings of every tile in the maze as a 4-bit nibble packed into {@code long} words.
+ * Each row of the maze starts on its own word, so that sliding a row is a word shift and sliding a column is one nibble move per row.
+ * The {@code TileMaze} class keeps a PackedMaze in step with its 2D array of {@code Tile} objects, which stay as the view used by the text and GUI modes.
+ * Rows and columns are 1-indexed to match the {@code TileMaze} 2D array.
+ * @author Philip de Bruyn
+ * @see TileMaze
+ */
+public class PackedMaze {
+
+    // bits of the opening nibble, in the same order as the tile encoding ( north, east, south, west )
+    public static final int NORTH = 1;
+    public static final int EAST = 2;
+    public static final int SOUTH = 4;
+    public static final int WEST = 8;
+
+    private static final int NIBBLES_PER_WORD = 16;
+
+    private final int numRows;
+    private final int numCols;
+    private final int wordsPerRow;
+    private final long[] cells; // row-major nibbles, each row padded to a whole number of words
+    private int version; // increased every time the openings change, so that cached results can tell they are stale
+
+    /**
+     * Creates an empty PackedMaze where every tile is closed on all sides.
+     * @param numCols the number of columns ( width ) of the maze
+     * @param numRows the number of rows ( height ) of the maze
+     */
+    public PackedMaze(int numCols, int numRows) {
+        this.numRows = numRows;
+        this.numCols = numCols;
+        wordsPerRow = (numCols + NIBBLES_PER_WORD - 1) / NIBBLES_PER_WORD;
+        cells = new long[wordsPerRow * numRows];
+    }
+
+    /**
+     * Creates a PackedMaze from the openings of an existing 1-indexed 2D array of tiles.
+     * @param maze a 2D array of {@code Tile} that represents the Maze of Tiles.
+     * @return a new {@code PackedMaze} holding the openings of every tile in {@code maze}
+     */
+    public static PackedMaze fromTiles(Tile[][] maze) {
+        PackedMaze board = new PackedMaze(maze[0].length - 1, maze.length - 1);
+        for (int iRow = 1; iRow < maze.length; iRow++) {
+            for (int iCol = 1; iCol < maze[0].length; iCol++) {
+                board.setOpenings(iRow, iCol, maze[iRow][iCol].getOpenings());
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Creates a copy of this maze that can be slid without changing the original, for example to try out a slide during a search.
+     * @return a new {@code PackedMaze} with the same openings.
+     */
+    public PackedMaze copy() {
+        PackedMaze copy = new PackedMaze(numCols, numRows);
+        System.arraycopy(cells, 0, copy.cells, 0, cells.length);
+        return copy;
+    }
+
+    /**
+     * Returns the number of rows in the maze.
+     * @return the number of rows
+     */
+    public int getNumRows() {
+        return numRows;
+    }
+
+    /**
+     * Returns the number of columns in the maze.
+     * @return the number of columns
+     */
+    public int getNumCols() {
+        return numCols;
+    }
+
+    /**
+     * Returns the opening nibble of the tile at the given row and column.
+     * @param row the row of the tile ( 1-indexed )
+     * @param col the column of the tile ( 1-indexed )
+     * @return the openings of the tile as a combination of {@link #NORTH}, {@link #EAST}, {@link #SOUTH} and {@link #WEST}
+     */
+    public int getOpenings(int row, int col) {
+        int c = col - 1;
+        long word = cells[(row - 1) * wordsPerRow + c / NIBBLES_PER_WORD];
+        return (int) (word >>> (4 * (c % NIBBLES_PER_WORD))) & 0xF;
+    }
+
+    /**
+     * Replaces the opening nibble of the tile at the given row and column.
+     * @param row the row of the tile ( 1-indexed )
+     * @param col the column of the tile ( 1-indexed )
+     * @param openings the new openings of the tile
+     */
+    public void setOpenings(int row, int col, int openings) {
+        writeOpenings(row, col, openings);
+        version++;
+    }
+
+    /**
+     * Returns the version of the maze. It is increased by every slide and every change of a tile's openings, so two equal versions
+     * of the same PackedMaze always hold the same openings.
+     * @return the current version of the maze
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Increases the version of the maze without changing any openings. This is used when state that depends on the maze,
+     * such as the orientation of the floating tile, changes.
+     */
+    public void markChanged() {
+        version++;
+    }
+
+    /**
+     * Writes the opening nibble of a tile without increasing the version.
+     * @param row the row of the tile ( 1-indexed )
+     * @param col the column of the tile ( 1-indexed )
+     * @param openings the new openings of the tile
+     */
+    private void writeOpenings(int row, int col, int openings) {
+        int c = col - 1;
+        int iWord = (row - 1) * wordsPerRow + c / NIBBLES_PER_WORD;
+        int shift = 4 * (c % NIBBLES_PER_WORD);
+        cells[iWord] = (cells[iWord] & ~(0xFL << shift)) | ((long) (openings & 0xF) << shift);
+    }
+
+    /**
+     * Checks whether the tile at the given row and column is open to the given side.
+     * @param row the row of the tile ( 1-indexed )
+     * @param col the column of the tile ( 1-indexed )
+     * @param side one of {@link #NORTH}, {@link #EAST}, {@link #SOUTH} or {@link #WEST}
+     * @return {@code true} if the tile is open to {@code side}
+     */
+    public boolean isOpenToSide(int row, int col, int side) {
+        return (getOpenings(row, col) & side) != 0;
+    }
+
+    /**
+     * Slides a tile with the openings {@code inserted} into the maze from the side {@code dir} at row or column {@code index},
+     * shifting the rest of the row or column along by one.
+     * @param dir the side the tile is slid in from, one of 'n', 'e', 's' or 'w'
+     * @param index the row ( for 'e' and 'w' ) or column ( for 'n' and 's' ) to slide into
+     * @param inserted the openings of the tile being slid in
+     * @return the openings of the tile that was pushed out of the opposite side
+     */
+    public int slide(char dir, int index, int inserted) {
+        int ejected;
+        version++;
+        switch (dir) {
+            case 'w': { // the row moves east, the inserted tile lands in the first column
+                ejected = getOpenings(index, numCols);
+                int first = (index - 1) * wordsPerRow;
+                for (int iWord = first + wordsPerRow - 1; iWord > first; iWord--) {
+                    cells[iWord] = (cells[iWord] << 4) | (cells[iWord - 1] >>> 60);
+                }
+                cells[first] = cells[first] << 4;
+                clearPadding(index);
+                writeOpenings(index, 1, inserted);
+                return ejected;
+            }
+            case 'e': { // the row moves west, the inserted tile lands in the last column
+                ejected = getOpenings(index, 1);
+                int first = (index - 1) * wordsPerRow;
+                int last = first + wordsPerRow - 1;
+                for (int iWord = first; iWord < last; iWord++) {
+                    cells[iWord] = (cells[iWord] >>> 4) | (cells[iWord + 1] << 60);
+                }
+                cells[last] = cells[last] >>> 4;
+                writeOpenings(index, numCols, inserted);
+                return ejected;
+            }
+            case 'n': { // the column moves south, the inserted tile lands in the first row
+                ejected = getOpenings(numRows, index);
+                for (int iRow = numRows; iRow > 1; iRow--) {
+                    writeOpenings(iRow, index, getOpenings(iRow - 1, index));
+                }
+                writeOpenings(1, index, inserted);
+                return ejected;
+            }
+            default: { // the column moves north, the inserted tile lands in the last row
+                ejected = getOpenings(1, index);
+                for (int iRow = 1; iRow < numRows; iRow++) {
+                    writeOpenings(iRow, index, getOpenings(iRow + 1, index));
+                }
+                writeOpenings(numRows, index, inserted);
+                return ejected;
+            }
+        }
+    }
+
+    /**
+     * Clears the unused nibbles past the last column of a row, so that shifts never carry stale openings back into the row.
+     * @param row the row to clear ( 1-indexed )
+     */
+    private void clearPadding(int row) {
+        int used = numCols % NIBBLES_PER_WORD;
+        if (used != 0) {
+            int last = row * wordsPerRow - 1;
+            cells[last] = cells[last] & ((1L << (4 * used)) - 1);
+        }
+    }
+
+    /**
+     * Converts a direction array in the order north, east, south, west into an opening nibble.
+     * @param directions a {@code boolean} array of length 4
+     * @return the opening nibble
+     */
+    public static int toOpenings(boolean[] directions) {
+        int openings = 0;
+        for (int i = 0; i < 4; i++) {
+            if (directions[i]) {
+                openings |= 1 << i;
+            }
+        }
+        return openings;
+    }
+
+    /**
+     * Converts an opening nibble into a new direction array in the order north, east, south, west.
+     * @param openings the opening nibble
+     * @return a new {@code boolean} array of length 4
+     */
+    public static boolean[] toDirections(int openings) {
+        return new boolean[]{(openings & NORTH) != 0, (openings & EAST) != 0, (openings & SOUTH) != 0, (openings & WEST) != 0};
+    }
+
+    /**
+     * Rotates an opening nibble once clockwise ( what was open to the north is now open to the east ).
+     * @param openings the opening nibble
+     * @return the rotated opening nibble
+     */
+    public static int rotateClockwise(int openings) {
+        return ((openings << 1) | (openings >>> 3)) & 0xF;
+    }
+
+    /**
+     * Rotates an opening nibble once counter-clockwise ( what was open to the east is now open to the north ).
+     * @param openings the opening nibble
+     * @return the rotated opening nibble
+     */
+    public static int rotateCounterClockwise(int openings) {
+        return ((openings >>> 1) | (openings << 3)) & 0xF;
+    }
+
+}
@@ -0,0 +1,131 @@
+package movingmaze;
+
+import java.util.Arrays;
+
+/**
+ * The PathFinder class finds every tile that can be reached from a starting tile in a {@code PackedMaze}.
+ * It uses an explicit queue instead of recursion, so large boards cannot overflow the stack, and it reuses its scratch buffers
+ * between queries so that a query does not allocate once the buffers are big enough for the board.
+ * Tiles that were visited are marked with the current epoch number, which means the visited array never has to be cleared.
+ * @author Philip de Bruyn
+ * @see PackedMaze
+ * @see GameState#isValidPath(int, int, Tile[][])
+ */
+public class PathFinder {
+
+    private int[] visited = new int[0]; // epoch in which each tile was last visited
+    private int epoch; // number of the current query
+    private int[] queue = new int[0]; // tiles waiting to be explored, as row-major indices
+    private int queueSize; // number of tiles reached by the last query
+    private long[] reachable = new long[0]; // bitset of tiles reached by the last query
+    private int numCols; // width of the board used in the last query
+
+    /**
+     * Finds every tile that can be reached from the starting tile and returns them as a bitset.
+     * Bit {@code (row - 1) * numCols + (col - 1)} is set if the tile at row, col can be reached.
+     * The returned array is reused by the next query, so callers must copy it if they need to keep it.
+     * @param board the {@code PackedMaze} to search
+     * @param startRow the row of the starting tile ( 1-indexed )
+     * @param startCol the column of the starting tile ( 1-indexed )
+     * @return the bitset of reachable tiles
+     */
+    public long[] findReachable(PackedMaze board, int startRow, int startCol) {
+        int numRows = board.getNumRows();
+        numCols = board.getNumCols();
+        int numCells = numRows * numCols;
+        ensureCapacity(numCells);
+
+        for (int i = 0; i < queueSize; i++) { // clear only the bits that the last query set
+            reachable[queue[i] >>> 6] = 0L;
+        }
+
+        epoch++;
+        if (epoch == 0) { // the stamps wrapped around, so old stamps could be mistaken for this query
+            Arrays.fill(visited, 0);
+            epoch = 1;
+        }
+
+        int head = 0;
+        int tail = 0;
+        int start = (startRow - 1) * numCols + (startCol - 1);
+        visited[start] = epoch;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int cell = queue[head++];
+            reachable[cell >>> 6] |= 1L << cell;
+
+            int row = cell / numCols + 1;
+            int col = cell % numCols + 1;
+            int openings = board.getOpenings(row, col);
+
+            if ((openings & PackedMaze.NORTH) != 0 && row != 1 && (board.getOpenings(row - 1, col) & PackedMaze.SOUTH) != 0) { // check above
+                tail = enqueue(cell - numCols, tail);
+            }
+            if ((openings & PackedMaze.SOUTH) != 0 && row != numRows && (board.getOpenings(row + 1, col) & PackedMaze.NORTH) != 0) { // below
+                tail = enqueue(cell + numCols, tail);
+            }
+            if ((openings & PackedMaze.EAST) != 0 && col != numCols && (board.getOpenings(row, col + 1) & PackedMaze.WEST) != 0) { // right
+                tail = enqueue(cell + 1, tail);
+            }
+            if ((openings & PackedMaze.WEST) != 0 && col != 1 && (board.getOpenings(row, col - 1) & PackedMaze.EAST) != 0) { // left
+                tail = enqueue(cell - 1, tail);
+            }
+        }
+        queueSize = tail;
+
+        return reachable;
+    }
+
+    /**
+     * Returns whether the tile at the given row and column was reached by the last query.
+     * @param row the row of the tile ( 1-indexed )
+     * @param col the column of the tile ( 1-indexed )
+     * @return {@code true} if the tile was reached
+     */
+    public boolean isReachable(int row, int col) {
+        return isInSet(reachable, numCols, row, col);
+    }
+
+    /**
+     * Returns whether the tile at the given row and column is set in a bitset returned by {@link #findReachable(PackedMaze, int, int)}.
+     * @param set the bitset of tiles
+     * @param numCols the number of columns of the board the bitset was made for
+     * @param row the row of the tile ( 1-indexed )
+     * @param col the column of the tile ( 1-indexed )
+     * @return {@code true} if the tile is in the set
+     */
+    public static boolean isInSet(long[] set, int numCols, int row, int col) {
+        int cell = (row - 1) * numCols + (col - 1);
+        return (set[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Adds a tile to the back of the queue if it has not been visited in this query.
+     * @param cell the row-major index of the tile
+     * @param tail the current end of the queue
+     * @return the new end of the queue
+     */
+    private int enqueue(int cell, int tail) {
+        if (visited[cell] != epoch) {
+            visited[cell] = epoch;
+            queue[tail++] = cell;
+        }
+        return tail;
+    }
+
+    /**
+     * Grows the scratch buffers if the board has more tiles than they can hold.
+     * @param numCells the number of tiles on the board
+     */
+    private void ensureCapacity(int numCells) {
+        if (visited.length < numCells) {
+            visited = new int[numCells];
+            queue = new int[numCells];
+            reachable = new long[(numCells + 63) / 64];
+            queueSize = 0;
+            epoch = 0;
+        }
+    }
+
+}
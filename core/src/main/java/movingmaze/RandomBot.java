@@ -0,0 +1,66 @@
+package movingmaze;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A {@code BotStrategy} that rotates and slides the floating tile at random and then moves to a random tile it can reach.
+ * It is used as a baseline when comparing strategies and board layouts.
+ * @author Philip de Bruyn
+ */
+public class RandomBot implements BotStrategy {
+
+    /**
+     * Plays one turn with random choices.
+     * @param engine the {@code GameEngine} of the game being played.
+     * @param random the random number generator of this game.
+     */
+    public void playTurn(GameEngine engine, Random random) {
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) {
+            engine.applyRotate(true);
+        }
+
+        List<String> slides = engine.getLegalSlides();
+        engine.applySlide(slides.get(random.nextInt(slides.size())));
+
+        if (engine.getGameState().isMoving() && !engine.isOver()) {
+            int[] destination = randomReachableTile(engine, random);
+            engine.applyTeleport(destination[0], destination[1]);
+        }
+        if (engine.getGameState().isMoving() && !engine.isOver()) {
+            engine.endTurn();
+        }
+    }
+
+    /**
+     * Picks a random tile that the current adventurer can reach.
+     * @param engine the {@code GameEngine} of the game being played.
+     * @param random the random number generator of this game.
+     * @return an array holding the row and column of the tile.
+     */
+    static int[] randomReachableTile(GameEngine engine, Random random) {
+        Tile[][] maze = engine.getTileMaze().getMaze();
+        int numCols = maze[0].length - 1;
+        long[] region = engine.getGameState().getReachableSet(maze);
+
+        int count = 0;
+        for (long word : region) {
+            count += Long.bitCount(word);
+        }
+        int pick = random.nextInt(count);
+        for (int iWord = 0; iWord < region.length; iWord++) {
+            int bits = Long.bitCount(region[iWord]);
+            if (pick < bits) {
+                long word = region[iWord];
+                for (int i = 0; i < pick; i++) {
+                    word &= word - 1; // drop the lowest set bits until the picked one is lowest
+                }
+                int cell = iWord * 64 + Long.numberOfTrailingZeros(word);
+                return new int[]{cell / numCols + 1, cell % numCols + 1};
+            }
+            pick -= bits;
+        }
+        return new int[]{engine.getGameState().getCurrentTurn().getCurrentRow(), engine.getGameState().getCurrentTurn().getCurrentCol()};
+    }
+}
@@ -0,0 +1,129 @@
+package movingmaze;
+
+/**
+ * The Relic class handles all relic related functions and states for a relic on a specific tile.
+ * @author Philip  de Bruyn
+ */
+
+public class Relic {
+
+    private final int relicNum; // Order of the Relic
+    private final char color; // Color of the Relic
+    private boolean hidden; // Whether of not to hide the relic ( this is not final as it can become unhidden )
+    private ZobristHash hash; // hash of the game state the relic is part of, or null if the game is not hashed
+    private Tile tile; // the tile the relic lies on, which must be redrawn when the relic is hidden or shown
+
+    /**
+     * A constructor method that creates a relic object
+     * @param num an {@code Integer} that represents the order of collection of the relic
+     * @param col an {@code Char} that represents the color of the relic
+     */
+    public Relic(int num , char col) {
+        relicNum = num;
+        color = col;
+
+        if( relicNum > 1) {
+            hidden= true;
+        } else {
+            hidden = false;
+        }
+
+    }
+
+    /**
+     * A static method that packs the colour and number of a relic into one {@code int}, laid out like the relic part of a
+     * {@code BoardFile} tile code. Two relics have the same code exactly when they have the same colour and number, and no relic has code 0.
+     * @param color the lower case colour of the relic.
+     * @param num the number of the relic, from 0 to 15.
+     * @return the packed code.
+     */
+    public static int code(char color, int num) {
+        return color << 8 | (num & 0xF) << 4;
+    }
+
+    /**
+     * An instance method that returns the packed colour and number of the relic.
+     * @return the code of the relic, see {@link #code(char, int)}
+     */
+    public int getCode() {
+        return code(color, relicNum);
+    }
+
+    /**
+     * An instance method that un-hides the relic object.
+     */
+    public void unHide( ) {
+
+        if (hidden && hash != null) {
+            hash.toggleHiddenKey(this);
+        }
+        if (hidden && tile != null) {
+            tile.markDirty();
+        }
+        hidden = false;
+    }
+
+    /**
+     * An instance method that hides the current relic object.
+     */
+    public void Hide( ) {
+
+        if (!hidden && hash != null) {
+            hash.toggleHiddenKey(this);
+        }
+        if (!hidden && tile != null) {
+            tile.markDirty();
+        }
+        hidden = true;
+    }
+
+    /**
+     * An instance method that sets the tile the relic lies on, so that hiding and un-hiding the relic marks the tile to be redrawn.
+     * @param tile the {@code Tile} holding this relic.
+     */
+    public void setTile(Tile tile) {
+        this.tile = tile;
+    }
+
+    /**
+     * An instance method that returns the tile the relic lies on. The relic never leaves it, so its position is the position of the tile.
+     * @return the {@code Tile} holding this relic, or {@code null} if it has not been set.
+     */
+    public Tile getTile() {
+        return tile;
+    }
+
+    /**
+     * An instance method that sets the hash of the game state that this relic is part of, so that hiding and un-hiding the relic updates it.
+     * @param hash the {@code ZobristHash} of the game.
+     */
+    public void setHash(ZobristHash hash) {
+        this.hash = hash;
+    }
+
+    /**
+     * An instance method that returns if the relic is hidden or not.
+     * @return {@code true} if the relic is currently hidden
+     */
+    public boolean isHidden() {
+        return hidden;
+    }
+
+    /**
+     * An instance method that returns the color of the relic
+     * @return A {@code Char} that represents the relics color
+     */
+    public char getColor() {
+        return color;
+    }
+
+    /**
+     * An instance method that represents the position of the relic in collection order.
+     * @return An {@code Integer} that represents the relics collection order.
+     */
+    public int getRelicNum() {
+        return relicNum;
+    }
+
+
+}
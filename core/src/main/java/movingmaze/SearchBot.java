@@ -0,0 +1,330 @@
+package movingmaze;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * A {@code BotStrategy} that searches every rotation of the floating tile, every legal slide and every reachable destination for the move
+ * that brings the adventurer closest to their next relic ( or back to their starting tile once they have all their relics ).
+ * The first ply is searched in parallel over all processor cores. While the time budget lasts, each first ply is refined by
+ * looking one more turn of the same adventurer ahead, using the tile that the first slide pushed out as the next floating tile.
+ * The other adventurers' turns are not modelled, so the look-ahead is an estimate of what the adventurer can do next turn.
+ * <p>
+ * The budget is checked before every first ply and every look-ahead slide, and once it is spent the best move found so far is returned.
+ * The first candidate is always scored, so a move is returned even with no budget. A search therefore takes at most the budget plus the time
+ * one worker thread needs to score one candidate, which grows with the size of the maze.
+ * <p>
+ * Moves that score the same are chosen between at random, and a move that would put the game back into the state it was in at the end of a
+ * recent turn is scored down, so that bots do not play the same turns in circles. The state after a move is recognised by its Zobrist hash.
+ * @see GameState#isRecentState(long)
+ * @author Philip de Bruyn
+ * @see BotMove
+ */
+public class SearchBot implements BotStrategy {
+
+    private static final long REACHED = 1_000_000L; // score of a move that reaches the target
+    private static final long REPEATED = 2 * REACHED; // taken off the score of a move that leads back to a recent state
+    private static final long NOT_SCORED = Long.MIN_VALUE; // score of a candidate that was skipped because the budget ran out
+    private static final long DEFAULT_BUDGET_MILLIS = 80; // leaves room to apply the move within 100 ms
+
+    private final long timeBudgetNanos;
+    private final ThreadLocal<PathFinder> pathFinders = ThreadLocal.withInitial(PathFinder::new); // scratch buffers for each worker thread
+
+    /**
+     * Creates a SearchBot with the default time budget.
+     */
+    public SearchBot() {
+        this(DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * Creates a SearchBot with the given time budget per move.
+     * @param timeBudgetMillis the time in milliseconds after which the search stops refining and returns the best move found.
+     */
+    public SearchBot(long timeBudgetMillis) {
+        timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+    }
+
+    /**
+     * Plays the turn chosen by {@link #decide(TileMaze, Tile, GameState)}.
+     * @param engine the {@code GameEngine} of the game being played.
+     * @param random used to choose between moves with the same score.
+     */
+    public void playTurn(GameEngine engine, Random random) {
+        BotMove move = decide(engine.getTileMaze(), engine.getFloatingTile(), engine.getGameState(), random);
+
+        for (int i = 0; i < move.getRotations(); i++) {
+            engine.applyRotate(true);
+        }
+        engine.applySlide(move.getSlidingIndicator());
+
+        Adventurer player = engine.getGameState().getCurrentTurn();
+        if (engine.getGameState().isMoving() && !engine.isOver()
+                && (player.getCurrentRow() != move.getRow() || player.getCurrentCol() != move.getCol())) {
+            engine.applyTeleport(move.getRow(), move.getCol());
+        }
+        if (engine.getGameState().isMoving() && !engine.isOver()) {
+            engine.endTurn();
+        }
+    }
+
+    /**
+     * Searches for the best turn for the current adventurer without changing the game.
+     * @param tileMaze the {@code TileMaze} of the game.
+     * @param floatingTile the current floating tile.
+     * @param gameState the {@code GameState} of the game.
+     * @return the chosen {@code BotMove}, the first of the best moves if several score the same.
+     */
+    public BotMove decide(TileMaze tileMaze, Tile floatingTile, GameState gameState) {
+        return decide(tileMaze, floatingTile, gameState, null);
+    }
+
+    /**
+     * Searches for the best turn for the current adventurer without changing the game.
+     * @param tileMaze the {@code TileMaze} of the game.
+     * @param floatingTile the current floating tile.
+     * @param gameState the {@code GameState} of the game.
+     * @param random used to choose between moves with the same score, or {@code null} to choose the first of them.
+     * @return the chosen {@code BotMove}.
+     */
+    public BotMove decide(TileMaze tileMaze, Tile floatingTile, GameState gameState, Random random) {
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        Adventurer player = gameState.getCurrentTurn();
+        PackedMaze board = tileMaze.getPackedMaze();
+        int numCols = board.getNumCols();
+        int[] target = gameState.findTarget(player, tileMaze.getMaze(), floatingTile);
+        int targetCell = target == null ? -1 : (target[0] - 1) * numCols + (target[1] - 1);
+        boolean targetMoves = !gameState.hasAllRelics(player); // a relic moves with its tile, the starting position does not
+        int playerCell = (player.getCurrentRow() - 1) * numCols + (player.getCurrentCol() - 1);
+
+        int[] actions = MoveGenerator.generate(tileMaze, floatingTile);
+        long[] scores = new long[actions.length];
+        int[] destinations = new int[actions.length];
+
+        IntStream.range(0, actions.length).parallel().forEach(i -> {
+            if (i > 0 && System.nanoTime() >= deadline) { // out of time, keep the candidates scored so far
+                scores[i] = NOT_SCORED;
+                return;
+            }
+            evaluate(i, board, floatingTile.getOpenings(), actions[i], playerCell, targetCell, targetMoves, deadline, scores, destinations);
+            if (scores[i] < REACHED && gameState.getZobristHash() != null
+                    && gameState.isRecentState(hashAfter(tileMaze, floatingTile, gameState, board, actions[i], destinations[i]))) {
+                scores[i] -= REPEATED;
+            }
+        });
+
+        int best = 0;
+        int numBest = 1;
+        for (int i = 1; i < actions.length; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+                numBest = 1;
+            } else if (scores[i] == scores[best] && random != null && random.nextInt(++numBest) == 0) { // each tied move is equally likely
+                best = i;
+            }
+        }
+        return new BotMove(MoveGenerator.getRotations(actions[best]), MoveGenerator.toSlidingIndicator(actions[best]),
+                destinations[best] / numCols + 1, destinations[best] % numCols + 1);
+    }
+
+    /**
+     * Scores one rotation and slide, and finds the best destination after it.
+     * @param i the index of the candidate, where its score and destination are stored.
+     * @param board the current maze.
+     * @param openings the openings of the floating tile before any rotation.
+     * @param action the encoded action, see {@link MoveGenerator}.
+     * @param playerCell the row-major index of the adventurer's tile.
+     * @param targetCell the row-major index of the target, or -1 if it is on the floating tile.
+     * @param targetMoves {@code true} if the target is a relic that moves with its tile.
+     * @param deadline the time after which no look-ahead is done.
+     * @param scores the scores of all candidates.
+     * @param destinations the destinations of all candidates.
+     */
+    private void evaluate(int i, PackedMaze board, int openings, int action, int playerCell, int targetCell, boolean targetMoves,
+                          long deadline, long[] scores, int[] destinations) {
+        char dir = MoveGenerator.getSide(action);
+        int index = MoveGenerator.getIndex(action);
+        PackedMaze after = board.copy();
+        int ejected = after.slide(dir, index, MoveGenerator.rotatedOpenings(openings, action));
+
+        int player = shift(playerCell, dir, index, after, true);
+        int target = targetMoves ? shift(targetCell, dir, index, after, false) : targetCell;
+
+        long[] best = bestDestination(after, player, target);
+        int destination = (int) best[1];
+        long score = best[0];
+
+        if (score < REACHED && target >= 0 && System.nanoTime() < deadline) { // look one more turn ahead
+            score += lookAhead(after, ejected, MoveGenerator.exitOf(action), destination, target, targetMoves, deadline) / 4;
+        }
+        scores[i] = score;
+        destinations[i] = destination;
+    }
+
+    /**
+     * Finds the best score the adventurer could get on their next turn, standing on {@code playerCell} with {@code openings} as the floating tile.
+     * @param board the maze after this turn's slide.
+     * @param openings the openings of the next floating tile.
+     * @param lastExit the encoded slide the next floating tile may not be slid into.
+     * @param playerCell the row-major index of the adventurer's tile.
+     * @param targetCell the row-major index of the target.
+     * @param targetMoves {@code true} if the target is a relic that moves with its tile.
+     * @param deadline the time after which no more slides are tried.
+     * @return the best score of the next turn found before the deadline, or 0 if none was tried.
+     */
+    private long lookAhead(PackedMaze board, int openings, int lastExit, int playerCell, int targetCell, boolean targetMoves, long deadline) {
+        int[] actions = new int[MoveGenerator.maxActions(board)];
+        int numActions = MoveGenerator.generate(board, openings, lastExit, actions);
+        long best = Long.MIN_VALUE;
+        for (int i = 0; i < numActions; i++) {
+            if (System.nanoTime() >= deadline) {
+                return best == Long.MIN_VALUE ? 0 : best;
+            }
+            char dir = MoveGenerator.getSide(actions[i]);
+            int index = MoveGenerator.getIndex(actions[i]);
+            PackedMaze after = board.copy();
+            after.slide(dir, index, MoveGenerator.rotatedOpenings(openings, actions[i]));
+            int player = shift(playerCell, dir, index, after, true);
+            int target = targetMoves ? shift(targetCell, dir, index, after, false) : targetCell;
+            best = Math.max(best, bestDestination(after, player, target)[0]);
+            if (best >= REACHED) {
+                return best;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Works out the Zobrist hash the game would have at the end of this turn if the current adventurer played a move, by XOR-ing the keys of
+     * what the move changes into the current hash: the slid row or column, the floating tile, the adventurers that move and whose turn it is.
+     * Relics that the move would collect are not taken into account, as such a move never leads back to an earlier state.
+     * @param tileMaze the {@code TileMaze} of the game.
+     * @param floatingTile the current floating tile.
+     * @param gameState the {@code GameState} of the game, which must be hashed.
+     * @param board the current maze, used for its size.
+     * @param action the encoded action, see {@link MoveGenerator}.
+     * @param destination the row-major index of the tile the adventurer moves to after the slide.
+     * @return the hash of the state after the move.
+     */
+    private static long hashAfter(TileMaze tileMaze, Tile floatingTile, GameState gameState, PackedMaze board, int action, int destination) {
+        ZobristHash hash = gameState.getZobristHash();
+        Tile[][] maze = tileMaze.getMaze();
+        char dir = MoveGenerator.getSide(action);
+        int index = MoveGenerator.getIndex(action);
+        int numCols = board.getNumCols();
+        boolean isRow = dir == 'w' || dir == 'e';
+        int length = isRow ? numCols : board.getNumRows();
+        long value = hash.getValue();
+
+        Tile ejected = null;
+        int ejectedCell = -1;
+        for (int i = 1; i <= length; i++) { // every tile of the line moves one step, and the last one is pushed out
+            int row = isRow ? index : i;
+            int col = isRow ? i : index;
+            Tile tile = maze[row][col];
+            int cell = (row - 1) * numCols + (col - 1);
+            int to = shift(cell, dir, index, board, false);
+            value ^= hash.cellKey(cell, tile.getOpenings(), tile.getRelic());
+            if (to < 0) {
+                ejected = tile;
+                ejectedCell = cell;
+            } else {
+                value ^= hash.cellKey(to, tile.getOpenings(), tile.getRelic());
+            }
+        }
+        int entry = shift(ejectedCell, dir, index, board, true); // where the floating tile goes in
+        value ^= hash.cellKey(entry, MoveGenerator.rotatedOpenings(floatingTile.getOpenings(), action), floatingTile.getRelic());
+        value ^= hash.floatingKey(floatingTile.getOpenings(), floatingTile.getRelic()) ^ hash.floatingKey(ejected.getOpenings(), ejected.getRelic());
+
+        Adventurer[] adventurers = gameState.getAdventurers();
+        Adventurer current = gameState.getCurrentTurn();
+        for (Adventurer a : adventurers) {
+            int cell = (a.getCurrentRow() - 1) * numCols + (a.getCurrentCol() - 1);
+            int to = a == current ? destination : shift(cell, dir, index, board, true);
+            if (to != cell) {
+                value ^= hash.playerKey(a.getColor(), cell) ^ hash.playerKey(a.getColor(), to);
+            }
+        }
+        int turn = current.getIndex();
+        return value ^ hash.turnKey(turn) ^ hash.turnKey((turn + 1) % adventurers.length);
+    }
+
+    /**
+     * Finds the reachable tile that is closest to the target.
+     * @param board the maze.
+     * @param playerCell the row-major index of the adventurer's tile.
+     * @param targetCell the row-major index of the target, or -1 if it is not in the maze.
+     * @return an array holding the score and the row-major index of the best destination.
+     */
+    private long[] bestDestination(PackedMaze board, int playerCell, int targetCell) {
+        int numCols = board.getNumCols();
+        long[] region = pathFinders.get().findReachable(board, playerCell / numCols + 1, playerCell % numCols + 1);
+
+        if (targetCell < 0) { // nothing to head for, so prefer staying where many tiles can be reached
+            long size = 0;
+            for (long word : region) {
+                size += Long.bitCount(word);
+            }
+            return new long[]{size - REACHED / 2, playerCell};
+        }
+        if ((region[targetCell >>> 6] & (1L << targetCell)) != 0) {
+            return new long[]{REACHED, targetCell};
+        }
+
+        int targetRow = targetCell / numCols;
+        int targetCol = targetCell % numCols;
+        int bestCell = playerCell;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int iWord = 0; iWord < region.length; iWord++) {
+            long word = region[iWord];
+            while (word != 0) {
+                int cell = iWord * 64 + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                int distance = Math.abs(cell / numCols - targetRow) + Math.abs(cell % numCols - targetCol);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    bestCell = cell;
+                }
+            }
+        }
+        return new long[]{-bestDistance, bestCell};
+    }
+
+    /**
+     * Returns where a tile or adventurer ends up after a slide.
+     * @param cell the row-major index before the slide, or -1.
+     * @param dir the side the floating tile is slid in from.
+     * @param index the row or column that is slid.
+     * @param board the maze, used for its size.
+     * @param wrap {@code true} for an adventurer, who wraps around onto the inserted tile, and {@code false} for a tile, which leaves the maze.
+     * @return the row-major index after the slide, or -1 if the tile was pushed out.
+     */
+    private static int shift(int cell, char dir, int index, PackedMaze board, boolean wrap) {
+        if (cell < 0) {
+            return -1;
+        }
+        int numRows = board.getNumRows();
+        int numCols = board.getNumCols();
+        int row = cell / numCols + 1;
+        int col = cell % numCols + 1;
+
+        if ((dir == 'w' || dir == 'e') && row == index) {
+            col += dir == 'w' ? 1 : -1;
+            if (col > numCols || col < 1) {
+                if (!wrap) {
+                    return -1;
+                }
+                col = dir == 'w' ? 1 : numCols;
+            }
+        } else if ((dir == 'n' || dir == 's') && col == index) {
+            row += dir == 'n' ? 1 : -1;
+            if (row > numRows || row < 1) {
+                if (!wrap) {
+                    return -1;
+                }
+                row = dir == 'n' ? 1 : numRows;
+            }
+        }
+        return (row - 1) * numCols + (col - 1);
+    }
+}
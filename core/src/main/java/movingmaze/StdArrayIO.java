@@ -46,6 +46,7 @@
  *
  ******************************************************************************/
 
+package movingmaze;
 
 /**
  *  <i>Standard array IO</i>. This class provides methods for reading
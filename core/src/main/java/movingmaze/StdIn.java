@@ -7,6 +7,8 @@
  *
  ******************************************************************************/
 
+package movingmaze;
+
 import java.util.ArrayList;
 import java.util.InputMismatchException;
 import java.util.Locale;
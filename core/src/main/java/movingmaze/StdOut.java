@@ -7,6 +7,8 @@
  *
  ******************************************************************************/
 
+package movingmaze;
+
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.UnsupportedEncodingException;
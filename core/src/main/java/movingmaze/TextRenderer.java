@@ -0,0 +1,66 @@
+package movingmaze;
+
+/**
+ * The TextRenderer class prints the events of a {@code GameEngine} to the terminal, in the same style as the text mode of {@code MovingMaze}.
+ * It is the only part of a headless game that prints, so leaving it out runs a game without any output.
+ * @author Philip de Bruyn
+ * @see GameEngine#addListener(GameEventListener)
+ */
+public class TextRenderer implements GameEventListener {
+
+    private final GameEngine engine;
+
+    /**
+     * Constructor for the TextRenderer object.
+     * @param engine the {@code GameEngine} whose maze and floating tile are drawn.
+     */
+    public TextRenderer(GameEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Prints the message for the event, and draws the maze when it has changed.
+     * @param event the {@code GameEvent} that happened.
+     */
+    public void onEvent(GameEvent event) {
+        String name = event.getAdventurer().getColorString();
+
+        switch (event.getType()) {
+            case ROTATED:
+                StdOut.println(event.getDetail().equals("r") ? " Rotating right." : " Rotating left.");
+                drawBoard();
+                break;
+            case SLID:
+                StdOut.println(" Inserting at " + event.getDetail() + ".");
+                drawBoard();
+                break;
+            case MOVED:
+                StdOut.println(" Moving to " + event.getCol() + "," + event.getRow() + ".");
+                drawBoard();
+                break;
+            case RELIC_COLLECTED:
+                StdOut.println(name + " has collected a relic.");
+                break;
+            case ALL_RELICS_COLLECTED:
+                StdOut.println(name + " has all their relics.");
+                break;
+            case TURN_ENDED:
+                StdOut.println("End of " + name + "'s turn.");
+                engine.getGameState().printScoreBoard();
+                break;
+            case GAME_WON:
+                StdOut.println(name + " has won.");
+                break;
+            case REJECTED:
+                StdOut.println(" " + event.getDetail() + ".");
+                break;
+        }
+    }
+
+    /**
+     * Draws the current maze and floating tile.
+     */
+    private void drawBoard() {
+        engine.getTileMaze().drawFrame(engine.getFloatingTile());
+    }
+}
@@ -0,0 +1,494 @@
+package movingmaze;
+
+import java.util.Arrays;
+
+/**
+ * The Tile class handles the generation of the Tile objects. Tile objects are used to create the game board in the TileMaze class
+ * A tile holds the state of one game only. Its openings and relic identity are a shared {@code TileType}.
+ * @author Philip de Bruyn
+ * @see TileMaze
+ * @see TileType
+ */
+
+public class Tile {
+
+    // Variables used to keep track of the type of the tile ( what sides are open and which relic it has ), the relic
+    // field ( either has one or null ) and the string array that is the representation of the Tile in terminal mode
+
+    private TileType type; // the openings and relic identity, shared with every tile of the same type ( replaced when the tile rotates )
+    private final Relic relic; // relic object field, if the tile has no relic then it will be null. It holds whether the relic is hidden in this game
+    private long occupants; // bit i is set if the adventurer with index i is on the tile ( see Adventurer#getIndex )
+    private String[][] pathways; // array that will hold pathway strings, made the first time the tile is drawn
+    private int row; // position of the tile in its TileMaze, both 0 while it is the floating tile
+    private int col;
+
+    private String lastExitPoint; // a string that holds the sliding indicator of the last position that a tile was slid out
+    private boolean dirty = true; // whether the pathways array must be rebuilt before the tile is drawn again
+
+    // the centre glyph of each opening mask ( bit 0 north, bit 1 east, bit 2 south, bit 3 west ), dead ends have no centre glyph
+    private static final String[] CENTRES = {" ", " ", " ", TileMaze.PATH_NE, " ", TileMaze.PATH_NS, TileMaze.PATH_ES, TileMaze.PATH_NES,
+            " ", TileMaze.PATH_NW, TileMaze.PATH_EW, TileMaze.PATH_NEW, TileMaze.PATH_SW, TileMaze.PATH_NSW, TileMaze.PATH_ESW, TileMaze.PATH_NESW};
+    private static final String[][][] GLYPHS = createGlyphs(); // the 3x7 template of each opening mask, never changed after it is made
+
+    // where each adventurer is drawn on a tile, in the order Green, Yellow, Red, Blue
+    private static final int[] ADVENTURER_ROWS = {0, 0, 2, 2};
+    private static final int[] ADVENTURER_COLS = {1, 5, 1, 5};
+    private static final String[] ADVENTURER_GLYPHS = {"G", "Y", "R", "B"};
+    private static final String[] CHAR_GLYPHS = createCharGlyphs(); // a one character string for every ASCII character, used for relics
+
+
+    /**
+     * Constructor that takes the tile encoding string and translates in into values for the instance variables of this class
+     * It also creates the pathway array that holds the string representation of the tile
+     *
+     * @param tileEncoding a {@code String} of length 6 that holds the information to create a tile
+     */
+    public Tile(String tileEncoding) {
+
+        lastExitPoint = "";
+
+        char[] encodingChars = tileEncoding.toCharArray(); // invoke instance method to create a char array from the string
+
+        int openings = 0;
+        for (int i = 0; i < 4; i++) { // loop through the char array
+
+            if (encodingChars[i] == '1') {
+                openings |= 1 << i;
+            }
+        }
+        if (encodingChars[4] == 'x') { // if no relic needs to be on the tile, then make field null
+            relic = null;
+        } else { // if a relic needs to be on the tile then create it with the color char and num
+            int num = Integer.parseInt(String.valueOf(encodingChars[5])); // change the char into an integer
+            relic = new Relic(num, encodingChars[4] ); // create relic object
+            relic.setTile(this);
+        }
+        type = TileType.of(openings, relic == null ? 0 : relic.getCode());
+
+    }
+
+    /**
+     * Constructor that creates a tile from its openings and relic, for tiles that are not read from a tile encoding string.
+     *
+     * @param openings the opening nibble of the tile in the order north, east, south, west ( see PackedMaze )
+     * @param relic the relic on the tile, or null if it has none
+     */
+    public Tile(int openings, Relic relic) {
+        lastExitPoint = "";
+        type = TileType.of(openings, relic == null ? 0 : relic.getCode());
+        this.relic = relic;
+        if (relic != null) {
+            relic.setTile(this);
+        }
+    }
+
+    /**
+     * Constructor that creates a tile of a shared {@code TileType}, with a relic of its own if the type has one. This is how a {@code BoardFile}
+     * creates the tiles of each game.
+     *
+     * @param type the type of the tile.
+     */
+    public Tile(TileType type) {
+        lastExitPoint = "";
+        this.type = type;
+        relic = type.createRelic();
+        if (relic != null) {
+            relic.setTile(this);
+        }
+    }
+
+    /**
+     * A static method that creates the 3x7 text template of every opening mask: the arms of the open sides and the centre glyph.
+     * @return an array of 16 templates indexed by opening mask
+     */
+    private static String[][][] createGlyphs() {
+        String[][][] glyphs = new String[16][3][7];
+        for (int mask = 0; mask < 16; mask++) {
+            for (String[] row : glyphs[mask]) {
+                Arrays.fill(row, " ");
+            }
+            if ((mask & PackedMaze.NORTH) != 0) {
+                glyphs[mask][0][3] = TileMaze.PATH_NS;
+            }
+            if ((mask & PackedMaze.EAST) != 0) {
+                glyphs[mask][1][4] = TileMaze.PATH_EW;
+                glyphs[mask][1][5] = TileMaze.PATH_EW;
+                glyphs[mask][1][6] = TileMaze.PATH_EW;
+            }
+            if ((mask & PackedMaze.SOUTH) != 0) {
+                glyphs[mask][2][3] = TileMaze.PATH_NS;
+            }
+            if ((mask & PackedMaze.WEST) != 0) {
+                glyphs[mask][1][0] = TileMaze.PATH_EW;
+                glyphs[mask][1][1] = TileMaze.PATH_EW;
+                glyphs[mask][1][2] = TileMaze.PATH_EW;
+            }
+            glyphs[mask][1][3] = CENTRES[mask];
+        }
+        return glyphs;
+    }
+
+    /**
+     * A static method that creates a one character {@code String} for every ASCII character, so that drawing a relic never creates a new string.
+     * @return an array of strings indexed by character
+     */
+    private static String[] createCharGlyphs() {
+        String[] glyphs = new String[128];
+        for (char c = 0; c < glyphs.length; c++) {
+            glyphs[c] = String.valueOf(c);
+        }
+        return glyphs;
+    }
+
+    /**
+     * An instance method that sets the last exit point of the current tile to the sliding indicator.
+     * This method is only used on the floating tile, so that it cannot be slid into the last exit point.
+     * @param lastExit a {@code String} that represents the last exit point the tile that was slid out
+     */
+    public void setLastExitPoint(String lastExit) {
+        lastExitPoint = lastExit;
+    }
+
+    /**
+     * An instance method that sets the position of the tile in its {@code TileMaze}. It is called for every tile a slide moves.
+     * @param row the row of the tile, or 0 if it is the floating tile.
+     * @param col the column of the tile, or 0 if it is the floating tile.
+     */
+    void setPosition(int row, int col) {
+        this.row = row;
+        this.col = col;
+    }
+
+    /**
+     * An instance method that returns the row of the tile in its {@code TileMaze}.
+     * @return the row, or 0 if the tile is the floating tile.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * An instance method that returns the column of the tile in its {@code TileMaze}.
+     * @return the column, or 0 if the tile is the floating tile.
+     */
+    public int getCol() {
+        return col;
+    }
+
+    /**
+     * An instance method that returns the last exit point of the invoking tile.
+     * This is used to compare the sliding position of the current floating tile to the last exit point , and check
+     * if they are the same.
+     * @return a {@code String} that represents the last exit point.
+     */
+    public String getLastExitPoint() {
+        return lastExitPoint;
+    }
+
+    /**
+     * An instance method that updates the {@code pathways} 2D string array that represents the string representation of the tile
+     * to match the current state of its variables. The template of the tile's openings is copied from a precomputed table and the adventurers
+     * and relic are drawn over it. Nothing is rebuilt if the tile has not changed since the last update.
+     * @see #markDirty()
+     */
+    public void updateTile() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        if (pathways == null) { // tiles of games that are never drawn, such as bot games, never need one
+            pathways = new String[3][7];
+        }
+        String[][] glyph = GLYPHS[type.getOpenings()];
+        for (int iRow = 0; iRow < 3; iRow++) { // start from the template of this opening mask
+            System.arraycopy(glyph[iRow], 0, pathways[iRow], 0, 7);
+        }
+
+        for (int i = 0; i < 4; i++) { // place adventurer on tile if there is one, each of the first four colours in its own corner
+            if ((occupants & (1L << i)) != 0) {
+                pathways[ADVENTURER_ROWS[i]][ADVENTURER_COLS[i]] = ADVENTURER_GLYPHS[i];
+            }
+        }
+
+        if (hasRelic() && !relic.isHidden()) { // if the tile has a relic,and relic is not hidden i.e. it's the first relic, middle must be the relic char
+            char color = relic.getColor();
+            pathways[1][3] = color < CHAR_GLYPHS.length ? CHAR_GLYPHS[color] : String.valueOf(color);
+        }
+    }
+
+
+    /**
+     * Method that returns which adventurers are on the tile
+     *
+     * @return a mask in which bit i is set if the adventurer with index i is on the tile
+     * @see Adventurer#getIndex()
+     */
+    public long getOccupants() {
+        return occupants;
+    }
+
+    /**
+     * Method that checks whether an adventurer is on the tile
+     *
+     * @param index the index of the adventurer ( see {@link Adventurer#getIndex()} )
+     * @return {@code true} if the adventurer is on the tile
+     */
+    public boolean hasAdventurer(int index) {
+        return (occupants & (1L << index)) != 0;
+    }
+
+    /**
+     * A mutator method that updates the directions that the tile is open to.
+     *
+     * @param arrDirections is an array that holds the directions the tile should be open to in order of North, East, South, West
+     */
+    public void setDirections(boolean[] arrDirections) {
+
+        type = type.withOpenings(PackedMaze.toOpenings(arrDirections)); // update old directions to the new directions
+        dirty = true;
+
+    }
+
+    /**
+     * An instance method that marks the text representation of the tile as out of date, so that the next {@link #updateTile()} rebuilds it.
+     * It is called whenever something that is drawn on the tile changes, such as a relic being hidden or shown.
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * An accessor method that gets the openings of the tile as a nibble.
+     *
+     * @return the openings of the tile as a combination of {@code PackedMaze.NORTH}, {@code EAST}, {@code SOUTH} and {@code WEST}
+     * @see PackedMaze
+     */
+    public int getOpenings() {
+        return type.getOpenings();
+    }
+
+    /**
+     * An accessor method that gets the shared type of the tile.
+     *
+     * @return the {@code TileType} holding the openings and relic identity of the tile
+     */
+    public TileType getType() {
+        return type;
+    }
+
+
+    /**
+     * Generates a new array with the directions rotated clockwise
+     *
+     * @return a new {@code boolean} array with the directions rotated clockwise
+     */
+    public boolean[] rotateTileClockwise() {
+
+        return PackedMaze.toDirections(PackedMaze.rotateClockwise(type.getOpenings()));
+    }
+
+    /**
+     * Generates a new array with the directions rotated Counter-Clockwise
+     * @return a new {@code boolean} array with the directions rotated Counter-Clockwise
+     */
+    public boolean[] rotateTileCounterClockwise() {
+
+        return PackedMaze.toDirections(PackedMaze.rotateCounterClockwise(type.getOpenings()));
+    }
+
+    /**
+     * An accessor method that gets the direction that the tile is open to
+     *
+     * @return a new array containing the direction that the tile is open to
+     */
+    public boolean[] getDirections() {
+        return PackedMaze.toDirections(type.getOpenings());
+    }
+
+    /**
+     * Returns whether the current tile has relic on it
+     *
+     * @return a boolean that is false if no relic is present and true if a relic is present
+     */
+    public boolean hasRelic() {
+
+        return relic != null; // if the relic is not null, then return true, if its null, return false
+
+
+    }
+
+    /**
+     * Returns the packed colour and number of the relic on the tile, so that relics can be compared without following the relic reference.
+     * @return the code of the relic ( see {@link Relic#code(char, int)} ), or 0 if the tile has no relic
+     */
+    public int getRelicCode() {
+        return type.getRelicCode();
+    }
+
+    /**
+     * An instance method that gets the relic on the invoking tile ( if it does not have one it returns a null reference )
+     * @return A reference to a {@code Relic} object, or {@code null} if not relic is on that tile.
+     */
+    public Relic getRelic() {
+        return relic;
+    }
+
+    /**
+     * This instance method prints out the string at [iRow][iCol] in the {@code pathways} 2D array
+     * This
+     * @param iRow the row index of the array that is accessed.
+     * @param iCol the column index of the array that is accessed.
+     */
+    public void printString(int iRow, int iCol) {
+        updateTile();
+        StdOut.print(pathways[iRow][iCol]); // print the part of the array at iRow , iCol
+    }
+
+    /**
+     * This instance method appends the string at [iRow][iCol] in the {@code pathways} 2D array to {@code frame}
+     * @param frame the {@code StringBuilder} that is appended to.
+     * @param iRow the row index of the array that is accessed.
+     * @param iCol the column index of the array that is accessed.
+     */
+    public void appendString(StringBuilder frame, int iRow, int iCol) {
+        updateTile();
+        frame.append(pathways[iRow][iCol]);
+    }
+
+    /**
+     * Draws the single tile with its borders. It is used only for the floating tile
+     */
+    public void drawTile() {
+        StringBuilder frame = new StringBuilder();
+        appendTile(frame);
+        StdOut.print(frame); // print the whole tile at once
+    }
+
+    /**
+     * Appends the single tile with its borders to {@code frame}, exactly as {@link #drawTile()} prints it.
+     * @param frame the {@code StringBuilder} that is appended to.
+     */
+    public void appendTile(StringBuilder frame) {
+        frame.append(TileMaze.NEW_LINE);
+        updateTile();
+        frame.append(TileMaze.BORDER_TOPLEFT);
+        for (int i = 0; i < 7; i++) {
+            frame.append(TileMaze.BORDER_HORI);
+        }
+        frame.append(TileMaze.BORDER_TOPRIGHT);
+        frame.append(TileMaze.NEW_LINE);
+
+        for (int iRow = 0; iRow < 3; iRow++) {
+            frame.append(TileMaze.BORDER_VERT);
+            for (int iCol = 0; iCol < 7; iCol++) {
+                frame.append(pathways[iRow][iCol]);
+            }
+            frame.append(TileMaze.BORDER_VERT);
+            frame.append(TileMaze.NEW_LINE);
+        }
+
+        frame.append(TileMaze.BORDER_BOTTOMLEFT);
+        for (int i = 0; i < 7; i++) {
+            frame.append(TileMaze.BORDER_HORI);
+        }
+        frame.append(TileMaze.BORDER_BOTTOMRIGHT);
+        frame.append(TileMaze.NEW_LINE);
+        frame.append(TileMaze.NEW_LINE);
+    }
+
+    /**
+     * An instance method places the {@code Adventurer} onto the tile.
+     * This method sets the bit of the adventurer's index in the {@code occupants} mask
+     * @param a the {@code Adventurer} object to be placed on the tile.
+     */
+    public void setAdventurers(Adventurer a) { // used to add an adventurer to a tile
+
+        if (a == null) {
+            return;
+        }
+        dirty = true;
+        occupants |= 1L << a.getIndex();
+    }
+
+    /**
+     * An instance method removes the {@code Adventurer} from the tile.
+     * This method clears the bit of the adventurer's index in the {@code occupants} mask
+     * @param a the {@code Adventurer} object to be removed from the tile.
+     */
+    public void removeAdventurer(Adventurer a) {
+
+        if(a == null) {
+            return;
+        }
+        dirty = true;
+        occupants &= ~(1L << a.getIndex());
+    }
+
+    /**
+     * An instance method that moves adventurers from the tile onto another tile, all at once. Only adventurers that are on this tile are moved.
+     * @param mask the adventurers to move, bit i for the adventurer with index i, or {@code -1L} for every adventurer on the tile.
+     * @param target the {@code Tile} the adventurers move onto.
+     */
+    public void moveOccupants(long mask, Tile target) {
+        long moving = occupants & mask;
+        occupants &= ~moving;
+        target.occupants |= moving;
+        dirty |= moving != 0; // both tiles are redrawn only if someone moved
+        target.dirty |= moving != 0;
+    }
+
+    /**
+     * An instance method that checks if the invoking tile is open to the direction provided as a parameter.
+     * @param direction a {@code char} that represents the direction that the tile may or may not be open to.
+     * @return {@code true} if the tile is open to that {@code direction}
+     */
+    public boolean isOpenToSide(char direction) {
+        int openings = type.getOpenings();
+
+        switch (direction) {
+            case 'n':
+                return (openings & PackedMaze.NORTH) != 0;
+            case 'e':
+                return (openings & PackedMaze.EAST) != 0;
+            case 's':
+                return (openings & PackedMaze.SOUTH) != 0;
+            case 'w':
+                return (openings & PackedMaze.WEST) != 0;
+        }
+        return false;
+    }
+
+
+    /**
+     * The main method within the Tile.java class is used to unit test the class. It provides the constructor with an encoded
+     * string in order to test if the constructor creates the tile in the correct specification listed in the encoding.
+     * The unit test also tests if the string array representation of the tile is created properly by displaying the tile in
+     * the terminal
+     *
+     * @param args contains the tileEncoding string used to create the tile
+     */
+    public static void main(String[] args) {
+
+        String tileEncoding = args[0];
+        Tile myTile = new Tile(tileEncoding);
+        // StdArrayIO.print(myTile.getDirections());
+        //StdOut.println(Boolean.toString(myTile.hasRelic()));
+
+        // boolean[] arrDirections = new boolean[4];
+        // arrDirections[0] = true;
+        // arrDirections[1] = true;
+        // arrDirections[2] = true;
+        // arrDirections[3] = true;
+        // myTile.setDirections( arrDirections);
+        // StdArrayIO.print(myTile.getDirections());
+        if (myTile.hasRelic()) { // check if un-hiding of relic on tile works
+            myTile.relic.unHide();
+        }
+
+        myTile.updateTile();
+        myTile.drawTile();
+
+
+    }
+
+}
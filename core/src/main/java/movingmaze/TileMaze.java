@@ -0,0 +1,605 @@
+package movingmaze;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The TileMaze class handles operations performed on the entire game board, such as shifting and rotating tiles.
+ * The class also handles printing out the text representation of the maze.
+ * @author Philip de Bruyn
+ */
+
+public class TileMaze {
+
+    private Tile[][] Maze; // 2d array of tile objects
+    private PackedMaze board; // packed openings of the tiles in Maze, kept in step with every slide
+    private ComponentLabeller components = new ComponentLabeller(); // connected region of every tile, relabelled after every slide
+    private ZobristHash hash; // hash of the game state, updated by slides and rotations, or null if the game is not hashed
+    private final StringBuilder frame = new StringBuilder(); // reused for every frame that is drawn
+    private boolean rendering = true; // whether drawTextMaze and drawFrame print anything
+    private final AdventurerTable adventurers; // every adventurer placed in the maze, in the order they play
+    private char lastSlideDir; // side and row or column of the last slide, the only line whose tiles moved
+    private int lastSlideIndex;
+
+    static final String NEW_LINE = System.lineSeparator(); // the line ending StdOut.println uses
+
+    // box drawing characters of the text representation, used by Tile for the paths and by TileMaze for the borders
+    // ═ ║ ╔ ╗ ╚ ╝ ╠ ╣ ╦ ╩ ╬
+    // ─ │ ┌ ┐ └ ┘ ├ ┤ ┬ ┴ ┼
+
+    public static final String PATH_EW = "═";
+    public static final String PATH_NS = "║";
+    public static final String PATH_ES = "╔";
+    public static final String PATH_SW = "╗";
+    public static final String PATH_NE = "╚";
+    public static final String PATH_NW = "╝";
+    public static final String PATH_NES = "╠";
+    public static final String PATH_NSW = "╣";
+    public static final String PATH_ESW = "╦";
+    public static final String PATH_NEW = "╩";
+    public static final String PATH_NESW = "╬";
+
+    public static final String BORDER_HORI = "─";
+    public static final String BORDER_VERT = "│";
+    public static final String BORDER_TOPLEFT = "┌";
+    public static final String BORDER_TOPRIGHT = "┐";
+    public static final String BORDER_BOTTOMLEFT = "└";
+    public static final String BORDER_BOTTOMRIGHT = "┘";
+    public static final String BORDER_LEFTEDGE = "├";
+    public static final String BORDER_RIGHTEDGE = "┤";
+    public static final String BORDER_TOPEDGE = "┬";
+    public static final String BORDER_BOTTOMEDGE = "┴";
+    public static final String BORDER_MIDDLE = "┼";
+
+    /**
+     * Creates a TileMaze object, consisting of a 2D array of Tiles, as a main field.
+     * This object does not include the floating tile.
+     * @param numCols        the number of columns ( width ) the 2D array should be
+     * @param numRows        the number of rows ( height ) the 2D array should be
+     * @param encodedStrings a 1D array that holds the encodedStrings for the tiles
+     */
+
+    public TileMaze(int numCols, int numRows, String[] encodedStrings) {
+        this(numCols, numRows, createTiles(encodedStrings));
+    }
+
+    /**
+     * Creates a TileMaze object from tiles that have already been created, for example by a {@code BoardFile}, with room for the four
+     * adventurers of the classic game.
+     * This object does not include the floating tile.
+     * @param numCols the number of columns ( width ) the 2D array should be
+     * @param numRows the number of rows ( height ) the 2D array should be
+     * @param tiles   a 1D array that holds the tiles row by row
+     */
+    public TileMaze(int numCols, int numRows, Tile[] tiles) {
+        this(numCols, numRows, tiles, 4);
+    }
+
+    /**
+     * Creates a TileMaze object from tiles that have already been created, with room for a given number of adventurers.
+     * This object does not include the floating tile.
+     * @param numCols the number of columns ( width ) the 2D array should be
+     * @param numRows the number of rows ( height ) the 2D array should be
+     * @param tiles   a 1D array that holds the tiles row by row
+     * @param numAdventurers the largest number of adventurers that can be placed in the maze, up to {@link AdventurerTable#MAX_ADVENTURERS}
+     */
+    public TileMaze(int numCols, int numRows, Tile[] tiles, int numAdventurers) {
+        adventurers = new AdventurerTable(numAdventurers);
+        int iCount = 0; // variable to keep track of what index in tiles the loop is at
+        Maze = new Tile[numRows + 1][numCols + 1]; // create space for a 2D array of numRows x numCols
+
+
+        for (int iRow = 1; iRow < numRows + 1; iRow++) { // loop through 2D array and place the tiles
+
+            for (int iCol = 1; iCol < numCols + 1; iCol++) {
+
+                Maze[iRow][iCol] = tiles[iCount];
+                tiles[iCount].setPosition(iRow, iCol);
+                iCount++;
+            }
+
+        }
+        board = PackedMaze.fromTiles(Maze);
+        components.label(board);
+
+
+    }
+
+    /**
+     * A static method that creates a tile for every tile encoding string.
+     * @param encodedStrings a 1D array that holds the encodedStrings for the tiles
+     * @return a 1D array of new tiles in the same order
+     */
+    public static Tile[] createTiles(String[] encodedStrings) {
+        Tile[] tiles = new Tile[encodedStrings.length];
+        for (int i = 0; i < encodedStrings.length; i++) {
+            tiles[i] = new Tile(encodedStrings[i]);
+        }
+        return tiles;
+    }
+
+    /**
+     * An instance method that slides the floating tile object into the position coded for by {@code slidingIndicator }.
+     * If the floating tile can legally be slid into the {@code slidingIndicator} position, then it will be slid in.
+     * The method returns a Tile object. This Tile is the new floating tile that will replace the old one once it has been slid into
+     * the Maze of Tiles.
+     *
+     * @param slidingIndicator a {@code String} that holds the side and index that the {@code floatingTile} must be slid into.
+     * @param floatingTile a {@code Tile} that is the current floating tile that must be slid into the {@code TileMaze}
+     * @return a {@code Tile} reference that refers to the new floating tile object
+     * @see #isLegalSlide(String, Tile)
+     */
+    public Tile slideIntoMaze(String slidingIndicator, Tile floatingTile) {
+
+        int index = Integer.parseInt(slidingIndicator.substring(1));
+        char dir = slidingIndicator.charAt(0);
+        Tile newFloatingTile; // will hold new floating tile reference
+
+        board.slide(dir, index, floatingTile.getOpenings()); // shift the packed openings the same way as the tiles below
+        lastSlideDir = dir;
+        lastSlideIndex = index;
+        components.label(board); // relabel the connected regions of the new maze in one pass
+
+        if (hash != null) { // take the old row or column, the old floating tile and the adventurers on them out of the hash
+            toggleLine(dir, index);
+            hash.toggleFloating(floatingTile);
+        }
+
+        if (dir == 'w') {
+
+            newFloatingTile = Maze[index][Maze[0].length-1];
+            for (int iCol = Maze[0].length-1; iCol > 1; iCol--) {
+
+                Maze[index][iCol] = Maze[index][iCol-1];
+
+            }
+            Maze[index][1] = floatingTile;
+            newFloatingTile.setLastExitPoint("e" + index);
+
+        } else if (dir == 'e') {
+
+            newFloatingTile = Maze[index][1];
+            for (int iCol = 1; iCol < Maze[0].length-1; iCol++) {
+
+                Maze[index][iCol] = Maze[index][iCol+1];
+
+            }
+            Maze[index][Maze[0].length-1] = floatingTile;
+            newFloatingTile.setLastExitPoint("w" + index);
+
+        } else if (dir == 'n') {
+
+            newFloatingTile = Maze[Maze.length-1][index];
+            for (int iRow = Maze.length-1; iRow > 1; iRow--) {
+
+                Maze[iRow][index] = Maze[iRow-1][index];
+
+            }
+            Maze[1][index] = floatingTile;
+            newFloatingTile.setLastExitPoint("s" + index);
+
+        } else { // if it is none of the above, we are inserting from south
+
+            newFloatingTile = Maze[1][index];
+            for (int iRow = 1; iRow < Maze.length-1; iRow++) {
+
+                Maze[iRow][index] = Maze[iRow+1][index];
+
+            }
+            Maze[Maze.length-1][index] = floatingTile;
+            newFloatingTile.setLastExitPoint("n" + index);
+
+        }
+
+        newFloatingTile.moveOccupants(-1L, floatingTile); // adventurers on the tile that was pushed out wrap around onto the inserted tile
+        newFloatingTile.setPosition(0, 0);
+        updateTilePositions(dir, index);
+        updateAdventurersPosition(dir, index); // only the slid row or column moved
+
+        if (hash != null) { // put the new row or column, the new floating tile and the moved adventurers back into the hash
+            toggleLine(dir, index);
+            hash.toggleFloating(newFloatingTile);
+        }
+        return newFloatingTile;
+
+    }
+
+    /**
+     * XORs the tiles of the row or column that a slide moves, and the adventurers standing on them, into the hash.
+     * @param dir the side the floating tile is slid in from.
+     * @param index the row or column that is slid.
+     */
+    private void toggleLine(char dir, int index) {
+        if (dir == 'w' || dir == 'e') {
+            for (int iCol = 1; iCol < Maze[0].length; iCol++) {
+                toggleTile(index, iCol);
+            }
+        } else {
+            for (int iRow = 1; iRow < Maze.length; iRow++) {
+                toggleTile(iRow, index);
+            }
+        }
+    }
+
+    /**
+     * XORs a tile of the maze, and the adventurers standing on it, into the hash.
+     * @param row the row of the tile.
+     * @param col the column of the tile.
+     */
+    private void toggleTile(int row, int col) {
+        hash.toggleCell(row, col, Maze[row][col]);
+        for (long occupants = Maze[row][col].getOccupants(); occupants != 0; occupants &= occupants - 1) {
+            hash.togglePlayer(adventurers.get(Long.numberOfTrailingZeros(occupants)));
+        }
+    }
+
+    /**
+     * An instance method that checks, without printing anything, whether the floating tile may be slid into the position coded for by
+     * {@code slidingIndicator}. The position must be an even row or column inside the maze and may not be the last exit point of the floating tile.
+     * @param slidingIndicator a {@code String} that holds the side and index that the {@code floatingTile} must be slid into.
+     * @param floatingTile a {@code Tile} that is the current floating tile.
+     * @return {@code true} if the slide is legal.
+     */
+    public boolean isLegalSlide(String slidingIndicator, Tile floatingTile) {
+        if (slidingIndicator == null || slidingIndicator.length() < 2) {
+            return false;
+        }
+        char dir = slidingIndicator.charAt(0);
+        int index;
+        try {
+            index = Integer.parseInt(slidingIndicator.substring(1));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        int limit;
+        if (dir == 'n' || dir == 's') {
+            limit = Maze[0].length - 1;
+        } else if (dir == 'e' || dir == 'w') {
+            limit = Maze.length - 1;
+        } else {
+            return false;
+        }
+        if (index < 1 || index > limit || index % 2 != 0) {
+            return false;
+        }
+        return !floatingTile.getLastExitPoint().equals(slidingIndicator);
+    }
+
+    /**
+     * An instance method that returns every sliding indicator the floating tile may currently be slid into.
+     * @param floatingTile a {@code Tile} that is the current floating tile.
+     * @return a list of sliding indicators such as "n2" or "w4".
+     * @see #isLegalSlide(String, Tile)
+     */
+    public List<String> getLegalSlides(Tile floatingTile) {
+        List<String> slides = new ArrayList<>();
+        for (char dir : new char[]{'n', 'e', 's', 'w'}) {
+            int limit = (dir == 'n' || dir == 's') ? Maze[0].length - 1 : Maze.length - 1;
+            for (int index = 2; index <= limit; index += 2) {
+                String slidingIndicator = "" + dir + index;
+                if (isLegalSlide(slidingIndicator, floatingTile)) {
+                    slides.add(slidingIndicator);
+                }
+            }
+        }
+        return slides;
+    }
+
+    /**
+     * An instance method that rotates the floating tile once clockwise or counter-clockwise. The version of the packed maze is increased
+     * so that results cached for the old orientation are not reused.
+     * @param floatingTile a {@code Tile} that is the current floating tile.
+     * @param clockwise {@code true} to rotate clockwise and {@code false} to rotate counter-clockwise.
+     * @see PackedMaze#getVersion()
+     */
+    public void rotateFloatingTile(Tile floatingTile, boolean clockwise) {
+        if (hash != null) {
+            hash.toggleFloating(floatingTile);
+        }
+        if (clockwise) {
+            floatingTile.setDirections(floatingTile.rotateTileClockwise());
+        } else {
+            floatingTile.setDirections(floatingTile.rotateTileCounterClockwise());
+        }
+        if (hash != null) {
+            hash.toggleFloating(floatingTile);
+        }
+        board.markChanged();
+    }
+
+    /**
+     * An instance method of the {@code TileMaze} class that updates the current position of the adventurers on a slid row or column to match
+     * their location in the 2D array field. A slide only moves the tiles of that one line, and adventurers on the tile that is pushed out
+     * wrap around onto the inserted tile of the same line, so no other adventurer changes position.
+     *
+     * @param dir the side the floating tile was slid in from, one of 'n', 'e', 's' or 'w'.
+     * @param index the row ( for 'e' and 'w' ) or column ( for 'n' and 's' ) that was slid.
+     * @see #Maze
+     * @see AdventurerTable#setPosition(int, int, int)
+     */
+    @VisibleForBenchmark
+    public void updateAdventurersPosition(char dir, int index) {
+        if (dir == 'w' || dir == 'e') { // a row moved
+            for (int iCol = 1; iCol < Maze[0].length; iCol++) {
+                updateAdventurersPosition(Maze[index][iCol], index, iCol);
+            }
+        } else { // a column moved
+            for (int iRow = 1; iRow < Maze.length; iRow++) {
+                updateAdventurersPosition(Maze[iRow][index], iRow, index);
+            }
+        }
+    }
+
+    /**
+     * An instance method that updates the position of every tile on a slid row or column to match their location in the 2D array field.
+     * @param dir the side the floating tile was slid in from, one of 'n', 'e', 's' or 'w'.
+     * @param index the row ( for 'e' and 'w' ) or column ( for 'n' and 's' ) that was slid.
+     * @see Tile#getRow()
+     */
+    private void updateTilePositions(char dir, int index) {
+        if (dir == 'w' || dir == 'e') { // a row moved
+            for (int iCol = 1; iCol < Maze[0].length; iCol++) {
+                Maze[index][iCol].setPosition(index, iCol);
+            }
+        } else { // a column moved
+            for (int iRow = 1; iRow < Maze.length; iRow++) {
+                Maze[iRow][index].setPosition(iRow, index);
+            }
+        }
+    }
+
+    /**
+     * An instance method that sets the current position of every adventurer on a tile.
+     * @param tile the {@code Tile} the adventurers are standing on.
+     * @param iRow the row of the tile.
+     * @param iCol the column of the tile.
+     */
+    private void updateAdventurersPosition(Tile tile, int iRow, int iCol) {
+        for (long occupants = tile.getOccupants(); occupants != 0; occupants &= occupants - 1) { // one bit for each adventurer on the tile
+            adventurers.setPosition(Long.numberOfTrailingZeros(occupants), iRow, iCol);
+        }
+    }
+
+    /**
+     * Instance method that checks whether the tile at a row and column was moved by the last slide, which moves every tile of one row or column.
+     * Adventurers on any other tile stayed where they were.
+     * @param row the row of the tile.
+     * @param col the column of the tile.
+     * @return {@code true} if the tile is on the row or column of the last slide, and {@code false} if it is not or nothing has been slid yet.
+     */
+    public boolean isOnLastSlide(int row, int col) {
+        if (lastSlideDir == 'w' || lastSlideDir == 'e') {
+            return row == lastSlideIndex;
+        }
+        if (lastSlideDir == 'n' || lastSlideDir == 's') {
+            return col == lastSlideIndex;
+        }
+        return false;
+    }
+
+    /**
+     * Instance method that creates an adventurer in the {@code AdventurerTable} of this maze and places it on its starting tile.
+     * Adventurers must be created in the order they play in, which is also their order in a {@code GameState}.
+     * @param color the colour of the adventurer.
+     * @param row the starting row of the adventurer.
+     * @param col the starting column of the adventurer.
+     * @return the new {@code Adventurer}.
+     * @throws IllegalStateException if the maze has no room for another adventurer.
+     */
+    public Adventurer createAdventurer(char color, int row, int col) {
+        Adventurer a = adventurers.add(color, row, col);
+        Maze[row][col].setAdventurers(a);
+        return a;
+    }
+
+    /**
+     * Returns the number of adventurers that have been created in this maze.
+     * @return the number of adventurers.
+     */
+    public int getNumAdventurers() {
+        return adventurers.size();
+    }
+
+    /**
+     * Returns an adventurer of this maze by its position in the order of play.
+     * @param index the position, from 0 to {@link #getNumAdventurers()} - 1.
+     * @return the {@code Adventurer}.
+     */
+    public Adventurer getAdventurer(int index) {
+        return adventurers.get(index);
+    }
+
+    /**
+     * Instance method that prints the current text representation of the TileMaze to the terminal.
+     * The whole maze is built in one reusable {@code StringBuilder} and written with a single print, unless rendering is switched off.
+     * @see #setRendering(boolean)
+     */
+    public void drawTextMaze() {
+        if (!rendering) {
+            return;
+        }
+        frame.setLength(0);
+        appendTextMaze(frame);
+        StdOut.print(frame);
+    }
+
+    /**
+     * Instance method that prints the maze followed by the floating tile with a single print, unless rendering is switched off.
+     * The output is the same as {@link #drawTextMaze()} followed by {@link Tile#drawTile()}.
+     * @param floatingTile a {@code Tile} that is the current floating tile.
+     */
+    public void drawFrame(Tile floatingTile) {
+        if (!rendering) {
+            return;
+        }
+        frame.setLength(0);
+        appendTextMaze(frame);
+        floatingTile.appendTile(frame);
+        StdOut.print(frame);
+    }
+
+    /**
+     * Instance method that switches the printing of the maze on or off. With rendering off, {@link #drawTextMaze()} and {@link #drawFrame(Tile)}
+     * print nothing, which is useful when the output of a game is only kept as a log.
+     * @param rendering {@code false} to skip all drawing of the maze.
+     */
+    public void setRendering(boolean rendering) {
+        this.rendering = rendering;
+    }
+
+    /**
+     * Instance method that appends the current text representation of the TileMaze to {@code frame}, exactly as it is printed to the terminal
+     * @param frame the {@code StringBuilder} the maze is appended to
+     */
+    public void appendTextMaze(StringBuilder frame) {
+
+        for (int iRow = 1; iRow < Maze.length; iRow++) { // before drawing the maze, make sure all text representations are up-to-date
+
+            for (int iCol = 1; iCol < Maze[0].length; iCol++) {
+
+                Maze[iRow][iCol].updateTile();
+
+            }
+
+        }
+
+        frame.append(NEW_LINE); // print a line before the maze
+        frame.append("     "); // make space for first number
+        for (int i = 1; i < Maze[0].length; i++) {
+            frame.append(i).append("       ");
+        }
+        frame.append(NEW_LINE);// go down a line for first border of the maze
+
+        frame.append(" ").append(BORDER_TOPLEFT);
+        for (int i = 1; i < Maze[0].length; i++) { // for each tile, draw the top borders
+
+            for (int k = 0; k < 7; k++) {
+                frame.append(BORDER_HORI);
+
+
+            }
+            if (i == Maze[0].length - 1) {
+                frame.append(BORDER_TOPRIGHT); // if its the last column, print a top right
+            } else {
+                frame.append(BORDER_TOPEDGE); // if its not, print a top edge
+            }
+
+        }
+        frame.append(NEW_LINE);
+        int iCounter = 1;
+        // now we draw 3 rows of each tile, and then a bottom row and we do that for how many rows of tiles we have
+        for (int iRowObject = 1; iRowObject < Maze.length; iRowObject++) { // loop through the rows of tiles
+
+            for (int iRowTile = 0; iRowTile < 3; iRowTile++) { // loop through the rows of each tile
+                if (iRowTile == 1) {
+                    frame.append(iRowObject);
+                    frame.append(BORDER_VERT);
+                } else {
+                    frame.append(" ").append(BORDER_VERT); // start each non-ending or start row with a vert border
+                }
+                for (int iColObject = 1; iColObject < Maze[iRowObject].length; iColObject++) { // loop through each column of tiles
+
+                    for (int iColTile = 0; iColTile < 7; iColTile++) {// loop through the columns of the tiles to print pathways
+
+                        Maze[iRowObject][iColObject].appendString(frame, iRowTile, iColTile); // append the bit of the tile
+
+                    }
+
+                    frame.append(BORDER_VERT); // each middle row ends in a vert border
+
+                }
+                if (iRowTile == 1) {
+                    frame.append(iRowObject);
+                }
+                frame.append(NEW_LINE); // next row of the tiles
+
+            }
+            if (iRowObject == Maze.length - 1) { // draw bottom row of the tile
+                frame.append(" ").append(BORDER_BOTTOMLEFT);// if this is the last row of tiles, start the bottom row with bottom left
+            } else {
+                frame.append(" ").append(BORDER_LEFTEDGE);
+            }
+            for (int i = 1; i < Maze[0].length; i++) { // for each tile, draw the bottom borders
+
+                for (int k = 0; k < 7; k++) {
+                    frame.append(BORDER_HORI);
+
+
+                }
+                if (i == Maze[0].length - 1 && iRowObject == Maze.length - 1) { // if last tile of last row, print bottom right
+                    frame.append(BORDER_BOTTOMRIGHT);
+                }
+
+                if (i == Maze[0].length - 1 && iRowObject != Maze.length - 1) {
+                    frame.append(BORDER_RIGHTEDGE);
+                }
+
+                if (i != Maze[0].length - 1 && iRowObject != Maze.length - 1) { // if its not the last tile, and not last row
+                    frame.append(BORDER_MIDDLE);
+                }
+
+                if (i != Maze[0].length - 1 && iRowObject == Maze.length - 1) { // if not last column, but is last row
+                    frame.append(BORDER_BOTTOMEDGE);
+                }
+
+
+            }
+            frame.append(NEW_LINE);
+
+        }
+
+        frame.append("     ");
+        for (int i = 1; i < Maze[0].length; i++) {
+            frame.append(i).append("       ");
+        }
+        frame.append(NEW_LINE);
+
+    }
+
+    public Tile[][] getMaze() {
+        return Maze;
+    }
+
+    /**
+     * Returns the packed openings of the maze. It always matches the openings of the tiles returned by {@link #getMaze()}.
+     * @return the {@code PackedMaze} of this maze.
+     */
+    public PackedMaze getPackedMaze() {
+        return board;
+    }
+
+    /**
+     * Sets the hash of the game state, so that slides and rotations update it from then on.
+     * @param hash the {@code ZobristHash} of the game.
+     * @see GameState#enableHashing(Tile)
+     */
+    public void setHash(ZobristHash hash) {
+        this.hash = hash;
+    }
+
+    /**
+     * Returns the connected component labels of the maze, so that checking if one tile can be reached from another is a
+     * comparison of their labels.
+     * @return the {@code ComponentLabeller} of this maze, labelled for its current state.
+     */
+    public ComponentLabeller getComponents() {
+        components.label(board); // only does work if the maze changed since it was last labelled
+        return components;
+    }
+
+    /**
+     * Main method of the TileMaze class is used to unit test the class and its functions
+     *
+     * @param args {@code Integer}
+     */
+    public static void main(String[] args) {
+        int iRows = Integer.parseInt(args[0]);
+        int iCols = Integer.parseInt(args[1]);
+        String[] encodedStrings = {"0110xx", "0101xx", "0011xx", "1110xx", "1010xx", "1011xx", "1100xx", "1111xx", "1001xx"};
+        TileMaze myMaze = new TileMaze(iRows, iCols, encodedStrings); // create TileMaze of tiles with the above encoded values
+        //myMaze.drawTiles();
+        myMaze.drawTextMaze();
+
+
+    }
+}
@@ -0,0 +1,114 @@
+package movingmaze;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The TileType class holds the part of a tile that never changes during a game: its openings and the colour and number of its relic.
+ * Tile types are immutable flyweights. There is one for every combination of the 16 opening masks and relic identity, and every tile with the
+ * same openings and relic, in every game, shares it. A {@code Tile} only adds the state of one game: its adventurers, whether its relic is
+ * hidden, its last exit point and its text representation. Rotating a tile swaps its type for the type with the rotated openings.
+ * @author Philip de Bruyn
+ * @see Tile
+ * @see BoardFile
+ */
+public final class TileType {
+
+    private static final TileType[] PLAIN = new TileType[16]; // the types without a relic, indexed by opening mask
+    private static final ConcurrentHashMap<Integer, TileType> WITH_RELIC = new ConcurrentHashMap<>(); // the types with a relic, by code
+
+    static {
+        for (int openings = 0; openings < PLAIN.length; openings++) {
+            PLAIN[openings] = new TileType(openings);
+        }
+    }
+
+    private final int code; // the openings in bits 0 to 3 and the relic code ( see Relic.code ) above them, laid out like a BoardFile tile code
+
+    /**
+     * Creates a tile type. Types are only made through {@link #of(int)}, so that equal types are the same object.
+     * @param code the code of the type.
+     */
+    private TileType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the tile type of a code.
+     * @param code the openings in bits 0 to 3, the relic number in bits 4 to 7 and the relic colour from bit 8 on, which is 0 for a tile without
+     *             a relic. This is the layout of the tile codes of a {@code BoardFile}.
+     * @return the shared {@code TileType}.
+     */
+    public static TileType of(int code) {
+        if (code >>> 8 == 0) { // no relic, the relic number is ignored
+            return PLAIN[code & 0xF];
+        }
+        return WITH_RELIC.computeIfAbsent(code, TileType::new);
+    }
+
+    /**
+     * Returns the tile type with some openings and a relic.
+     * @param openings the opening nibble in the order north, east, south, west ( see PackedMaze ).
+     * @param relicCode the code of the relic ( see {@link Relic#code(char, int)} ), or 0 for a tile without a relic.
+     * @return the shared {@code TileType}.
+     */
+    public static TileType of(int openings, int relicCode) {
+        return of(relicCode | (openings & 0xF));
+    }
+
+    /**
+     * Returns the tile type with the same relic as this one and other openings.
+     * @param openings the opening nibble of the new type.
+     * @return the shared {@code TileType}.
+     */
+    public TileType withOpenings(int openings) {
+        return of(openings, getRelicCode());
+    }
+
+    /**
+     * Returns the openings of the tile type.
+     * @return the opening nibble in the order north, east, south, west ( see PackedMaze ).
+     */
+    public int getOpenings() {
+        return code & 0xF;
+    }
+
+    /**
+     * Returns whether tiles of this type have a relic.
+     * @return {@code true} if they have a relic.
+     */
+    public boolean hasRelic() {
+        return code >>> 8 != 0;
+    }
+
+    /**
+     * Returns the packed colour and number of the relic of the tile type.
+     * @return the code of the relic ( see {@link Relic#code(char, int)} ), or 0 for a type without a relic.
+     */
+    public int getRelicCode() {
+        return code & ~0xF;
+    }
+
+    /**
+     * Returns the colour of the relic of the tile type.
+     * @return the colour, or 0 for a type without a relic.
+     */
+    public char getRelicColor() {
+        return (char) (code >>> 8);
+    }
+
+    /**
+     * Returns the number of the relic of the tile type.
+     * @return the collection order number of the relic.
+     */
+    public int getRelicNum() {
+        return (code >>> 4) & 0xF;
+    }
+
+    /**
+     * Creates the per-game relic of a tile of this type. Every game needs its own relic, as it is hidden and un-hidden during the game.
+     * @return a new {@code Relic}, or {@code null} for a type without a relic.
+     */
+    public Relic createRelic() {
+        return hasRelic() ? new Relic(getRelicNum(), getRelicColor()) : null;
+    }
+}
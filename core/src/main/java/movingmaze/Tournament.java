@@ -0,0 +1,117 @@
+package movingmaze;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The Tournament class plays many independent automated games on one board across all processor cores, using a {@code ForkJoinPool}.
+ * Every game gets its own {@code GameEngine}, created from the shared {@code BoardFile}, and its own random number generator seeded from the
+ * game number, so no mutable state is shared between games and results can be reproduced.
+ * @author Philip de Bruyn
+ * @see BotStrategy
+ * @see TournamentStats
+ */
+public class Tournament {
+
+    private static final int GAMES_PER_TASK = 16; // games played by one task before it stops splitting
+
+    private final BoardFile board;
+    private final BotStrategy[] strategies; // strategy of each adventurer in the order of play, starting with Green, Yellow, Red, Blue
+    private final int maxTurns; // a game that takes longer than this is stopped without a winner
+
+    /**
+     * Constructor for the Tournament object.
+     * @param board the {@code BoardFile} every game is played on.
+     * @param strategies the {@code BotStrategy} of each adventurer in the order of play, starting with Green, Yellow, Red, Blue. Each game has
+     * one adventurer for each strategy, from {@link AdventurerTable#MIN_ADVENTURERS} to {@link AdventurerTable#MAX_ADVENTURERS} of them.
+     * @param maxTurns the number of turns after which an unfinished game is stopped.
+     */
+    public Tournament(BoardFile board, BotStrategy[] strategies, int maxTurns) {
+        this.board = board;
+        this.strategies = strategies;
+        this.maxTurns = maxTurns;
+    }
+
+    /**
+     * Plays a number of games in parallel and returns their combined results.
+     * @param numGames the number of games to play.
+     * @param seed the seed that the random number generator of each game is derived from.
+     * @return the {@code TournamentStats} of all the games.
+     */
+    public TournamentStats run(int numGames, long seed) {
+        return ForkJoinPool.commonPool().invoke(new GamesTask(0, numGames, seed));
+    }
+
+    /**
+     * Plays one game to the end, or until the turn limit is reached, and adds its results to the stats.
+     * @param gameNumber the number of the game, used to seed its random number generator.
+     * @param seed the seed of the tournament.
+     * @param stats the stats the results are added to.
+     */
+    void playGame(int gameNumber, long seed, TournamentStats stats) {
+        GameEngine engine = board.newGame(strategies.length);
+        Random random = new Random(seed * 31 + gameNumber);
+        int[] turn = new int[1];
+        engine.addListener(event -> {
+            if (event.getType() == GameEvent.Type.RELIC_COLLECTED) {
+                stats.addRelic(event.getAdventurer().getNumRelicCollected(), turn[0] + 1);
+            }
+        });
+
+        while (!engine.isOver() && turn[0] < maxTurns) {
+            Adventurer player = engine.getGameState().getCurrentTurn();
+            strategyOf(player).playTurn(engine, random);
+            turn[0]++;
+        }
+
+        int winner = -1;
+        if (engine.isOver()) {
+            winner = engine.getGameState().getCurrentTurn().getIndex();
+        }
+        stats.addGame(winner, turn[0]);
+    }
+
+    /**
+     * Returns the strategy that plays for the given adventurer.
+     * @param player an {@code Adventurer} object.
+     * @return the {@code BotStrategy} of that adventurer.
+     */
+    private BotStrategy strategyOf(Adventurer player) {
+        return strategies[player.getIndex()]; // adventurers are placed in the order of their strategies
+    }
+
+    /**
+     * A fork/join task that plays a range of games, splitting the range in half until it is small enough to play directly.
+     */
+    private class GamesTask extends RecursiveTask<TournamentStats> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int first;
+        private final int last;
+        private final long seed;
+
+        GamesTask(int first, int last, long seed) {
+            this.first = first;
+            this.last = last;
+            this.seed = seed;
+        }
+
+        @Override
+        protected TournamentStats compute() {
+            if (last - first <= GAMES_PER_TASK) {
+                TournamentStats stats = new TournamentStats(board.getK(), strategies.length);
+                for (int i = first; i < last; i++) {
+                    playGame(i, seed, stats);
+                }
+                return stats;
+            }
+            int middle = (first + last) / 2;
+            GamesTask left = new GamesTask(first, middle, seed);
+            left.fork();
+            TournamentStats right = new GamesTask(middle, last, seed).compute();
+            return right.merge(left.join());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package movingmaze;
+
+/**
+ * The TournamentStats class adds up the results of games played by a {@code Tournament}: the wins of each adventurer, the length of the games
+ * and the turn on which each relic was collected. Stats of separate groups of games are merged into one.
+ * @author Philip de Bruyn
+ * @see Tournament
+ */
+public class TournamentStats {
+
+    private static final String[] NAMES = {"Green", "Yellow", "Red", "Blue"};
+
+    private final int[] wins; // games won by each adventurer in the order they play
+    private int unfinished; // games that reached the turn limit without a winner
+    private long totalTurns; // turns played in all games
+    private int numGames;
+    private final long[] relicTurnSum; // sum of the turns on which the n-th relic was collected
+    private final int[] relicCount; // number of times the n-th relic was collected
+
+    /**
+     * Creates empty stats for games of four adventurers.
+     * @param K the number of relics each adventurer must collect.
+     */
+    public TournamentStats(int K) {
+        this(K, 4);
+    }
+
+    /**
+     * Creates empty stats.
+     * @param K the number of relics each adventurer must collect.
+     * @param numAdventurers the number of adventurers in each game.
+     */
+    public TournamentStats(int K, int numAdventurers) {
+        wins = new int[numAdventurers];
+        relicTurnSum = new long[K + 1];
+        relicCount = new int[K + 1];
+    }
+
+    /**
+     * Adds the result of one game.
+     * @param winner the index of the winning adventurer, or -1 if the game was not finished.
+     * @param turns the number of turns the game took.
+     */
+    public void addGame(int winner, int turns) {
+        numGames++;
+        totalTurns += turns;
+        if (winner < 0) {
+            unfinished++;
+        } else {
+            wins[winner]++;
+        }
+    }
+
+    /**
+     * Adds the collection of a relic.
+     * @param relicNum the collection order number of the relic.
+     * @param turn the turn of the game on which it was collected.
+     */
+    public void addRelic(int relicNum, int turn) {
+        if (relicNum < relicCount.length) {
+            relicTurnSum[relicNum] += turn;
+            relicCount[relicNum]++;
+        }
+    }
+
+    /**
+     * Adds the results of another group of games to these stats.
+     * @param other the stats to add.
+     * @return these stats.
+     */
+    public TournamentStats merge(TournamentStats other) {
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+        }
+        unfinished += other.unfinished;
+        totalTurns += other.totalTurns;
+        numGames += other.numGames;
+        for (int i = 0; i < relicCount.length; i++) {
+            relicTurnSum[i] += other.relicTurnSum[i];
+            relicCount[i] += other.relicCount[i];
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of games won by an adventurer.
+     * @param player the index of the adventurer in the order of play, starting with Green, Yellow, Red, Blue.
+     * @return the number of wins.
+     */
+    public int getWins(int player) {
+        return wins[player];
+    }
+
+    /**
+     * Returns the number of games played.
+     * @return the number of games.
+     */
+    public int getNumGames() {
+        return numGames;
+    }
+
+    /**
+     * Returns a report of the win rates, game lengths and relic collection timings.
+     * @return the report as a {@code String} of several lines.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append("Games played: ").append(numGames).append('\n');
+        for (int i = 0; i < wins.length; i++) {
+            report.append(String.format("- %-7s %d wins (%.1f%%)%n", nameOf(i), wins[i], percent(wins[i])));
+        }
+        report.append(String.format("- Unfinished %d (%.1f%%)%n", unfinished, percent(unfinished)));
+        report.append(String.format("Average game length: %.1f turns%n", numGames == 0 ? 0.0 : (double) totalTurns / numGames));
+        for (int i = 1; i < relicCount.length; i++) {
+            double average = relicCount[i] == 0 ? 0.0 : (double) relicTurnSum[i] / relicCount[i];
+            report.append(String.format("Relic %d: collected %d times, on average by turn %.1f%n", i, relicCount[i], average));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Returns the name of an adventurer in the report.
+     * @param player the index of the adventurer in the order of play.
+     * @return the colour name of one of the first four adventurers, or "Adventurer" and the colour of any other.
+     */
+    private static String nameOf(int player) {
+        return player < NAMES.length ? NAMES[player] : "Adventurer " + AdventurerTable.colorOf(player);
+    }
+
+    /**
+     * Returns a count as a percentage of the games played.
+     * @param count the count.
+     * @return the percentage.
+     */
+    private double percent(int count) {
+        return numGames == 0 ? 0.0 : 100.0 * count / numGames;
+    }
+}
@@ -0,0 +1,18 @@
+package movingmaze;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method that is only public so that the benchmarks in the {@code movingmaze.bench} package can call it directly. The game itself
+ * calls it from inside the model, and other code should not rely on it.
+ * @author Philip de Bruyn
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface VisibleForBenchmark {
+}
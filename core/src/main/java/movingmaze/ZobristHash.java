@@ -0,0 +1,194 @@
+package movingmaze;
+
+/**
+ * The ZobristHash class keeps a 64-bit hash of the whole state of a game: the openings and relic of every tile in the maze, the floating tile,
+ * the position of every adventurer, which relics are hidden and whose turn it is.
+ * Each part of the state has its own pseudo-random key and the hash is the XOR of the keys of the current state, so a change is applied by
+ * XOR-ing the old key out and the new key in. Only the parts that changed are touched, for example one row or column for a slide.
+ * The keys are made by mixing the kind, index and value of each part instead of being stored in tables, so large boards need no extra memory.
+ * @author Philip de Bruyn
+ * @see GameState#enableHashing(Tile)
+ */
+public class ZobristHash {
+
+    // kinds of state, mixed into every key so that equal indices of different kinds get unrelated keys
+    private static final int CELL = 1;
+    private static final int FLOATING = 2;
+    private static final int PLAYER = 3;
+    private static final int HIDDEN = 4;
+    private static final int TURN = 5;
+
+    private final int numCols;
+    private final long seed;
+    private long value;
+
+    /**
+     * Creates a hash with the value 0 for a maze with the given width.
+     * @param numCols the number of columns of the maze.
+     * @param seed the seed of the keys. Hashes can only be compared if they use the same seed.
+     */
+    public ZobristHash(int numCols, long seed) {
+        this.numCols = numCols;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the current hash of the game state.
+     * @return the 64-bit hash.
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     * Calculates the hash of a whole game state from scratch and makes it the current value.
+     * @param maze a 2D array of {@code Tile} that represents the Maze of Tiles.
+     * @param floatingTile the current floating tile.
+     * @param adventurers the adventurers playing the game.
+     * @param turnIndex the index of the adventurer whose turn it is.
+     */
+    public void recompute(Tile[][] maze, Tile floatingTile, Adventurer[] adventurers, int turnIndex) {
+        value = 0;
+        for (int iRow = 1; iRow < maze.length; iRow++) {
+            for (int iCol = 1; iCol < maze[0].length; iCol++) {
+                toggleCell(iRow, iCol, maze[iRow][iCol]);
+                toggleHidden(maze[iRow][iCol].getRelic());
+            }
+        }
+        toggleFloating(floatingTile);
+        toggleHidden(floatingTile.getRelic());
+        for (Adventurer a : adventurers) {
+            togglePlayer(a);
+        }
+        toggleTurn(turnIndex);
+    }
+
+    /**
+     * XORs the key of a tile at a position in the maze into the hash. Call it once to remove the tile and once to add it.
+     * @param row the row of the tile.
+     * @param col the column of the tile.
+     * @param tile the {@code Tile} at that position.
+     */
+    public void toggleCell(int row, int col, Tile tile) {
+        value ^= cellKey((row - 1) * numCols + (col - 1), tile.getOpenings(), tile.getRelic());
+    }
+
+    /**
+     * XORs the key of the floating tile into the hash.
+     * @param tile the floating {@code Tile}.
+     */
+    public void toggleFloating(Tile tile) {
+        value ^= floatingKey(tile.getOpenings(), tile.getRelic());
+    }
+
+    /**
+     * XORs the key of an adventurer at their current position into the hash.
+     * @param a the {@code Adventurer}, or {@code null} for a missing adventurer.
+     */
+    public void togglePlayer(Adventurer a) {
+        if (a != null) {
+            value ^= playerKey(a.getColor(), (a.getCurrentRow() - 1) * numCols + (a.getCurrentCol() - 1));
+        }
+    }
+
+    /**
+     * XORs the key of a relic into the hash if it is hidden.
+     * @param relic the {@code Relic}, or {@code null} for a tile without a relic.
+     */
+    public void toggleHidden(Relic relic) {
+        if (relic != null && relic.isHidden()) {
+            toggleHiddenKey(relic);
+        }
+    }
+
+    /**
+     * XORs the hidden key of a relic into the hash, whether or not it is hidden. It is called by the relic when it is hidden or un-hidden.
+     * @param relic the {@code Relic} whose hidden flag changes.
+     */
+    public void toggleHiddenKey(Relic relic) {
+        value ^= key(HIDDEN, relicCode(relic), 0);
+    }
+
+    /**
+     * XORs the key of the turn index into the hash.
+     * @param turnIndex the index of the adventurer whose turn it is.
+     */
+    public void toggleTurn(int turnIndex) {
+        value ^= turnKey(turnIndex);
+    }
+
+    /**
+     * Returns the key of a tile at a position in the maze. XOR-ing keys into {@link #getValue()} gives the hash of a state the game is not in,
+     * such as the state after a move that a bot is considering.
+     * @param cell the row-major index of the position, starting from 0.
+     * @param openings the openings of the tile.
+     * @param relic the {@code Relic} of the tile, or {@code null}.
+     * @return the 64-bit key.
+     */
+    public long cellKey(int cell, int openings, Relic relic) {
+        return key(CELL, cell, openings | ((long) relicCode(relic) << 4));
+    }
+
+    /**
+     * Returns the key of the floating tile.
+     * @param openings the openings of the floating tile.
+     * @param relic the {@code Relic} of the floating tile, or {@code null}.
+     * @return the 64-bit key.
+     */
+    public long floatingKey(int openings, Relic relic) {
+        return key(FLOATING, 0, openings | ((long) relicCode(relic) << 4));
+    }
+
+    /**
+     * Returns the key of an adventurer at a position in the maze.
+     * @param color the colour of the adventurer.
+     * @param cell the row-major index of the position, starting from 0.
+     * @return the 64-bit key.
+     */
+    public long playerKey(char color, int cell) {
+        return key(PLAYER, color, cell);
+    }
+
+    /**
+     * Returns the key of the turn index.
+     * @param turnIndex the index of the adventurer whose turn it is.
+     * @return the 64-bit key.
+     */
+    public long turnKey(int turnIndex) {
+        return key(TURN, turnIndex, 0);
+    }
+
+    /**
+     * Packs the color and collection order of a relic into one number.
+     * @param relic a {@code Relic}, or {@code null}.
+     * @return the code of the relic, or 0 if there is none.
+     */
+    private static int relicCode(Relic relic) {
+        if (relic == null) {
+            return 0;
+        }
+        return (relic.getColor() << 8) | relic.getRelicNum();
+    }
+
+    /**
+     * Makes the pseudo-random key of one part of the state by mixing its kind, index and value in turn.
+     * @param kind the kind of state.
+     * @param index the index of the part, such as a tile position.
+     * @param content the value of the part, such as the content of a tile.
+     * @return the 64-bit key.
+     */
+    private long key(int kind, long index, long content) {
+        return mix(mix(mix(seed + kind) + index) + content);
+    }
+
+    /**
+     * The SplitMix64 finaliser, which turns a number into a well spread pseudo-random 64-bit number.
+     * @param z the number to mix.
+     * @return the mixed number.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
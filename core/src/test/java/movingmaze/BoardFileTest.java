@@ -0,0 +1,71 @@
+package movingmaze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that a board survives being written in the binary format and read back.
+ * @author Philip de Bruyn
+ */
+class BoardFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void binaryRoundTrip() throws IOException {
+        Random random = new Random(5);
+        for (int size : new int[]{5, 7, 15, 51}) {
+            String[] encodings = RandomGames.encodings(size, 4, random);
+            BoardFile board = new BoardFile(size, size, 4, "0110r9", encodings);
+            String fileName = dir.resolve("board" + size + ".bin").toString();
+            board.saveBinary(fileName);
+
+            BoardFile loaded = BoardFile.load(fileName);
+            assertEquals(size, loaded.getBoardWidth());
+            assertEquals(size, loaded.getBoardHeight());
+            assertEquals(4, loaded.getK());
+            assertSameTile(board.createFloatingTile(), loaded.createFloatingTile());
+            Tile[][] expected = board.createMaze().getMaze();
+            Tile[][] actual = loaded.createMaze().getMaze();
+            for (int row = 1; row <= size; row++) {
+                for (int col = 1; col <= size; col++) {
+                    assertSameTile(expected[row][col], actual[row][col]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path file = dir.resolve("board.bin");
+        new BoardFile(5, 5, 3, "1010xx", RandomGames.encodings(5, 3, new Random(6))).saveBinary(file.toString());
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(IOException.class, () -> BoardFile.load(file.toString()));
+    }
+
+    /**
+     * Asserts that two tiles have the same openings and relic.
+     * @param expected the tile of the original board.
+     * @param actual the tile of the board that was read back.
+     */
+    private static void assertSameTile(Tile expected, Tile actual) {
+        assertEquals(expected.getOpenings(), actual.getOpenings());
+        if (expected.getRelic() == null) {
+            assertNull(actual.getRelic());
+        } else {
+            assertEquals(expected.getRelic().getColor(), actual.getRelic().getColor());
+            assertEquals(expected.getRelic().getRelicNum(), actual.getRelic().getRelicNum());
+        }
+    }
+}
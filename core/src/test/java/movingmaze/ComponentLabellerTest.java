@@ -0,0 +1,50 @@
+package movingmaze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the connected regions of the component labels against a search of the maze from every tile.
+ * @author Philip de Bruyn
+ */
+class ComponentLabellerTest {
+
+    @Test
+    void agreesWithPathFinder() {
+        Random random = new Random(2);
+        PathFinder pathFinder = new PathFinder();
+        for (int seed = 0; seed < 10; seed++) {
+            int size = 5 + 2 * (seed % 4);
+            GameEngine engine = RandomGames.newGame(size, seed);
+            for (int turn = 0; turn < 30 && !engine.isOver(); turn++) {
+                RandomGames.playTurn(engine, random);
+                PackedMaze board = engine.getTileMaze().getPackedMaze();
+                ComponentLabeller components = new ComponentLabeller();
+                components.label(board);
+                for (int fromRow = 1; fromRow <= size; fromRow++) {
+                    for (int fromCol = 1; fromCol <= size; fromCol++) {
+                        pathFinder.findReachable(board, fromRow, fromCol);
+                        for (int toRow = 1; toRow <= size; toRow++) {
+                            for (int toCol = 1; toCol <= size; toCol++) {
+                                assertEquals(pathFinder.isReachable(toRow, toCol), components.isConnected(fromRow, fromCol, toRow, toCol));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void mazeKeepsItsLabelsUpToDate() {
+        Random random = new Random(3);
+        GameEngine engine = RandomGames.newGame(9, 4);
+        for (int turn = 0; turn < 50 && !engine.isOver(); turn++) {
+            RandomGames.playTurn(engine, random);
+            assertTrue(engine.getTileMaze().getComponents().isUpToDate(engine.getTileMaze().getPackedMaze()));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package movingmaze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the generated actions cover every distinct orientation of the floating tile exactly once.
+ * @author Philip de Bruyn
+ */
+class MoveGeneratorTest {
+
+    @Test
+    void leavesOutRepeatedRotations() {
+        PackedMaze board = new PackedMaze(7, 7);
+        int slides = 4 * 3; // three movable rows or columns on each side
+        for (int openings = 0; openings < 16; openings++) {
+            Set<Integer> orientations = new HashSet<>();
+            int rotated = openings;
+            for (int rotations = 0; rotations < 4; rotations++) {
+                orientations.add(rotated);
+                rotated = PackedMaze.rotateClockwise(rotated);
+            }
+
+            int[] actions = new int[MoveGenerator.maxActions(board)];
+            int count = MoveGenerator.generate(board, openings, -1, actions);
+            assertEquals(orientations.size() * slides, count, "actions for openings " + openings);
+
+            Set<Long> seen = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                int result = MoveGenerator.rotatedOpenings(openings, actions[i]);
+                assertTrue(orientations.contains(result));
+                assertTrue(seen.add((long) result << 32 | MoveGenerator.getSlide(actions[i])), "repeated action " + actions[i]);
+            }
+        }
+    }
+
+    @Test
+    void straightAndCrossTiles() {
+        PackedMaze board = new PackedMaze(7, 7);
+        int[] actions = new int[MoveGenerator.maxActions(board)];
+        assertEquals(2 * 12, MoveGenerator.generate(board, PackedMaze.NORTH | PackedMaze.SOUTH, -1, actions));
+        assertEquals(12, MoveGenerator.generate(board, 15, -1, actions));
+        assertEquals(4 * 12, MoveGenerator.generate(board, PackedMaze.NORTH | PackedMaze.EAST, -1, actions));
+    }
+
+    @Test
+    void skipsTheLastExit() {
+        PackedMaze board = new PackedMaze(7, 7);
+        int lastExit = MoveGenerator.encodeSlide("w4");
+        int[] actions = new int[MoveGenerator.maxActions(board)];
+        int count = MoveGenerator.generate(board, 15, lastExit, actions);
+        assertEquals(11, count);
+        for (int i = 0; i < count; i++) {
+            assertNotEquals(lastExit, MoveGenerator.getSlide(actions[i]));
+        }
+    }
+
+    @Test
+    void slidingIndicatorRoundTrip() {
+        for (String indicator : new String[]{"n2", "e4", "s6", "w50", "n1000"}) {
+            assertEquals(indicator, MoveGenerator.toSlidingIndicator(MoveGenerator.encodeSlide(indicator)));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package movingmaze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the packed openings of a maze stay in step with its tiles through slides and rotations.
+ * @author Philip de Bruyn
+ */
+class PackedMazeTest {
+
+    @Test
+    void matchesTilesAfterRandomSlides() {
+        Random random = new Random(1);
+        for (int seed = 0; seed < 20; seed++) {
+            int size = 5 + 2 * (seed % 5);
+            GameEngine engine = RandomGames.newGame(size, seed);
+            for (int turn = 0; turn < 100 && !engine.isOver(); turn++) {
+                RandomGames.playTurn(engine, random);
+                assertSameOpenings(PackedMaze.fromTiles(engine.getTileMaze().getMaze()), engine.getTileMaze().getPackedMaze());
+            }
+        }
+    }
+
+    @Test
+    void slideReturnsThePushedOutOpenings() {
+        Tile[][] maze = RandomGames.newGame(7, 3).getTileMaze().getMaze();
+        PackedMaze board = PackedMaze.fromTiles(maze);
+        assertEquals(maze[4][7].getOpenings(), board.slide('w', 4, PackedMaze.NORTH));
+        assertEquals(PackedMaze.NORTH, board.getOpenings(4, 1));
+        assertEquals(maze[4][1].getOpenings(), board.getOpenings(4, 2));
+    }
+
+    /**
+     * Asserts that two packed mazes have the same openings everywhere.
+     * @param expected the packed maze made from the tiles.
+     * @param actual the packed maze kept up to date by the slides.
+     */
+    static void assertSameOpenings(PackedMaze expected, PackedMaze actual) {
+        for (int row = 1; row <= expected.getNumRows(); row++) {
+            for (int col = 1; col <= expected.getNumCols(); col++) {
+                assertEquals(expected.getOpenings(row, col), actual.getOpenings(row, col), "openings at " + row + ", " + col);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package movingmaze;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Random boards and random turns for the tests, so that the fast structures of the game can be checked against the plain ones on many
+ * different mazes.
+ * @author Philip de Bruyn
+ */
+final class RandomGames {
+
+    static final String COLORS = "gyrb"; // relic colours of the four adventurers of the classic game
+
+    private RandomGames() {
+    }
+
+    /**
+     * Creates the tile encodings of a random square board. Every adventurer has {@code K} relics, none of them on a corner tile.
+     * @param size the number of rows and columns.
+     * @param K the number of relics of each adventurer.
+     * @param random the source of the board.
+     * @return the encoded strings of the tiles, row by row.
+     */
+    static String[] encodings(int size, int K, Random random) {
+        String[] encodings = new String[size * size];
+        for (int i = 0; i < encodings.length; i++) {
+            encodings[i] = openingsOf(1 + random.nextInt(15)) + "xx";
+        }
+        for (int iColor = 0; iColor < COLORS.length(); iColor++) {
+            for (int num = 1; num <= K; num++) {
+                int cell;
+                do {
+                    cell = random.nextInt(encodings.length);
+                } while (encodings[cell].charAt(4) != 'x' || isCorner(cell, size));
+                encodings[cell] = encodings[cell].substring(0, 4) + COLORS.charAt(iColor) + num;
+            }
+        }
+        return encodings;
+    }
+
+    /**
+     * Creates a new four player game on a random square board.
+     * @param size the number of rows and columns.
+     * @param seed the seed of the board.
+     * @return a new {@code GameEngine}.
+     */
+    static GameEngine newGame(int size, long seed) {
+        return new GameEngine(size, size, 3, "1010xx", encodings(size, 3, new Random(seed)));
+    }
+
+    /**
+     * Plays one random turn: maybe a rotation, a legal slide, a few random steps and the end of the turn.
+     * @param engine the game to play in.
+     * @param random the source of the turn.
+     */
+    static void playTurn(GameEngine engine, Random random) {
+        if (random.nextBoolean()) {
+            engine.applyRotate(random.nextBoolean());
+        }
+        List<String> slides = engine.getLegalSlides();
+        engine.applySlide(slides.get(random.nextInt(slides.size())));
+        for (int step = 0; step < 3 && engine.getGameState().isMoving() && !engine.isOver(); step++) {
+            engine.applyMove("nesw".charAt(random.nextInt(4)));
+        }
+        if (engine.getGameState().isMoving() && !engine.isOver()) {
+            engine.endTurn();
+        }
+    }
+
+    /**
+     * Returns the four character opening part of a tile encoding.
+     * @param openings the opening nibble in the order north, east, south, west ( see PackedMaze ).
+     * @return the openings as '1' and '0' characters.
+     */
+    static String openingsOf(int openings) {
+        StringBuilder encoding = new StringBuilder(4);
+        for (int bit = 0; bit < 4; bit++) {
+            encoding.append((openings >> bit & 1) == 1 ? '1' : '0');
+        }
+        return encoding.toString();
+    }
+
+    /**
+     * Returns whether a cell is one of the starting corners.
+     * @param cell the row-major index of the cell.
+     * @param size the number of rows and columns.
+     * @return {@code true} for a corner.
+     */
+    private static boolean isCorner(int cell, int size) {
+        return cell == 0 || cell == size - 1 || cell == size * (size - 1) || cell == size * size - 1;
+    }
+}
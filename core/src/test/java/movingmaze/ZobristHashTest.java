@@ -0,0 +1,54 @@
+package movingmaze;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the hash updated by every action of a game is the hash calculated from scratch.
+ * @author Philip de Bruyn
+ */
+class ZobristHashTest {
+
+    private static final long SEED = 0x5DEECE66DL; // the seed GameState#enableHashing uses
+
+    @Test
+    void incrementalHashMatchesRecompute() {
+        Random random = new Random(4);
+        for (int seed = 0; seed < 20; seed++) {
+            int size = 5 + 2 * (seed % 5);
+            GameEngine engine = RandomGames.newGame(size, seed);
+            for (int turn = 0; turn < 200 && !engine.isOver(); turn++) {
+                RandomGames.playTurn(engine, random);
+                assertEquals(recompute(engine), engine.getGameState().getHash(), "seed " + seed + ", turn " + turn);
+            }
+        }
+    }
+
+    @Test
+    void slideChangesTheHash() {
+        GameEngine engine = RandomGames.newGame(7, 5);
+        long before = engine.getGameState().getHash();
+        engine.applySlide("n2");
+        assertNotEquals(before, engine.getGameState().getHash());
+        assertEquals(recompute(engine), engine.getGameState().getHash());
+    }
+
+    /**
+     * Calculates the hash of the current state of a game from scratch.
+     * @param engine the game.
+     * @return the hash.
+     */
+    private static long recompute(GameEngine engine) {
+        TileMaze tileMaze = engine.getTileMaze();
+        Adventurer[] adventurers = new Adventurer[tileMaze.getNumAdventurers()];
+        for (int i = 0; i < adventurers.length; i++) {
+            adventurers[i] = tileMaze.getAdventurer(i);
+        }
+        ZobristHash hash = new ZobristHash(tileMaze.getPackedMaze().getNumCols(), SEED);
+        hash.recompute(tileMaze.getMaze(), engine.getFloatingTile(), adventurers, engine.getGameState().getCurrentTurn().getIndex());
+        return hash.getValue();
+    }
+}